@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+/**
+ * Benchmark domain classes.
+ */
+public class BenchmarkDomain {
+
+    public static class SearchCriteria {
+
+        private final int minimumRange;
+        private final int numberOfPhasers;
+
+        public SearchCriteria(int minimumRange, int numberOfPhasers) {
+            this.minimumRange = minimumRange;
+            this.numberOfPhasers = numberOfPhasers;
+        }
+
+        public int getMinimumRange() {
+            return minimumRange;
+        }
+
+        public int getNumberOfPhasers() {
+            return numberOfPhasers;
+        }
+    }
+
+    public interface Station {
+
+        int findNumberOfShips(SearchCriteria searchCriteria);
+
+        void fireTorpedo(int tubeNumber);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.BenchmarkDomain.SearchCriteria;
+import org.mockito.AdditionalMatchers;
+import org.mockito.ArgumentMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static info.solidsoft.mockito.java8.LambdaMatcher.allOf;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.lambda;
+
+/**
+ * Compares AdditionalMatchers.and() over nested argLambda() with allOf() when the rejecting condition is initially evaluated last.
+ * AdditionalMatchers.and() evaluates its arguments in the reverse order (as they are popped from the matcher stack), so the rejecting
+ * condition is declared first there and last in allOf() - which can only benefit from adaptive ordering.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CompositeMatcherBenchmark {
+
+    private final SearchCriteria notMatchingCriteria = new SearchCriteria(1500, 8);
+
+    private ArgumentMatcher<SearchCriteria> cheapAdditionalMatchersAnd;
+    private ArgumentMatcher<SearchCriteria> cheapAllOf;
+    private ArgumentMatcher<SearchCriteria> costlyAdditionalMatchersAnd;
+    private ArgumentMatcher<SearchCriteria> costlyAllOf;
+
+    @Setup
+    public void setUpMatchers() {
+        Predicate<SearchCriteria> costlyRangeCheck = c -> String.valueOf(c.getMinimumRange()).matches("1\\d{3}");
+
+        AdditionalMatchers.and(
+                argLambda((SearchCriteria c) -> c.getNumberOfPhasers() < 4),
+                AdditionalMatchers.and(
+                        argLambda((SearchCriteria c) -> c.getMinimumRange() < 2000),
+                        argLambda((SearchCriteria c) -> c.getMinimumRange() > 1000)));
+        cheapAdditionalMatchersAnd = MatcherStack.pullSingle();
+        allOf(lambda((SearchCriteria c) -> c.getMinimumRange() > 1000),
+                lambda((SearchCriteria c) -> c.getMinimumRange() < 2000),
+                lambda((SearchCriteria c) -> c.getNumberOfPhasers() < 4));
+        cheapAllOf = MatcherStack.pullSingle();
+
+        AdditionalMatchers.and(argLambda((SearchCriteria c) -> c.getNumberOfPhasers() < 4), argLambda(costlyRangeCheck));
+        costlyAdditionalMatchersAnd = MatcherStack.pullSingle();
+        allOf(lambda(costlyRangeCheck), lambda((SearchCriteria c) -> c.getNumberOfPhasers() < 4));
+        costlyAllOf = MatcherStack.pullSingle();
+    }
+
+    @Benchmark
+    public boolean cheapAdditionalMatchersAndNotMatching() {
+        return cheapAdditionalMatchersAnd.matches(notMatchingCriteria);
+    }
+
+    @Benchmark
+    public boolean cheapAllOfNotMatching() {
+        return cheapAllOf.matches(notMatchingCriteria);
+    }
+
+    @Benchmark
+    public boolean costlyAdditionalMatchersAndNotMatching() {
+        return costlyAdditionalMatchersAnd.matches(notMatchingCriteria);
+    }
+
+    @Benchmark
+    public boolean costlyAllOfNotMatching() {
+        return costlyAllOf.matches(notMatchingCriteria);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.BenchmarkDomain.Station;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+
+/**
+ * Measures time to the first verification with assertArg() in a fresh JVM - with and without {@link MockitoJava8#warmUp()}.
+ * <p>
+ * Waiting for the warm-up to finish shows the upper bound of the gain - achieved when the warm-up fully overlaps with test engine startup.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class FirstVerifyBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class WarmedUp {
+
+        @Setup
+        public void warmUp() throws Exception {
+            MockitoJava8.warmUp().get();
+        }
+    }
+
+    @Benchmark
+    public void coldFirstVerify() {
+        firstVerify();
+    }
+
+    @Benchmark
+    public void firstVerifyAfterWarmUp(WarmedUp warmedUp) {
+        firstVerify();
+    }
+
+    private static void firstVerify() {
+        Station station = Mockito.mock(Station.class);
+        station.fireTorpedo(2);
+        Mockito.verify(station).fireTorpedo(assertArg(i -> {
+            if (i != 2) {
+                throw new AssertionError("Unexpected tube number: " + i);
+            }
+        }));
+    }
+}
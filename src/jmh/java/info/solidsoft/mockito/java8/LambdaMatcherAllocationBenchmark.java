@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.BenchmarkDomain.SearchCriteria;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mockito;
+import org.mockito.internal.matchers.LocalizedMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+
+/**
+ * Compares allocation (gc.alloc.rate.norm) of argLambda() with the former LambdaMatcher layout delegating to a nested backend matcher.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class LambdaMatcherAllocationBenchmark {
+
+    @Benchmark
+    public List<LocalizedMatcher> singleObjectLambdaMatcher() {
+        argLambda((SearchCriteria c) -> c.getMinimumRange() > 1000);
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> nestedBackendLambdaMatcher() {
+        Mockito.argThat(new NestedBackendLambdaMatcher<>((SearchCriteria c) -> c.getMinimumRange() > 1000,
+                "Inline lambda expression - add description in code to get more detailed error message"));
+        return MatcherStack.pullAll();
+    }
+
+    /**
+     * LambdaMatcher implementation used up to version 2.5.0.
+     */
+    private static class NestedBackendLambdaMatcher<T> implements ArgumentMatcher<T> {
+
+        private final ArgumentMatcher<T> backendMatcher;
+
+        private NestedBackendLambdaMatcher(Predicate<T> lambda, String description) {
+            this.backendMatcher = new ArgumentMatcher<T>() {
+                @Override
+                public boolean matches(T item) {
+                    try {
+                        return lambda.test(item);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+
+                @Override
+                public String toString() {
+                    return description;
+                }
+            };
+        }
+
+        @Override
+        public boolean matches(T item) {
+            return backendMatcher.matches(item);
+        }
+
+        @Override
+        public String toString() {
+            return backendMatcher.toString();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.BenchmarkDomain.SearchCriteria;
+import info.solidsoft.mockito.java8.api.WithBDDMockito;
+import info.solidsoft.mockito.java8.api.WithMockito;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mockito;
+import org.mockito.internal.matchers.LocalizedMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArgThrowing;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambdaThrowing;
+
+/**
+ * Measures a cost of creating (and reporting to Mockito) a matcher - what happens for every matcher used in stubbing or verification.
+ * <p>
+ * Reporting a matcher in Mockito captures its location, so plain Mockito.argThat() calls are the baseline for lambda based variants.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class MatcherCreationBenchmark {
+
+    private static final WithMockito WITH_MOCKITO = new WithMockito() { };
+    private static final WithBDDMockito WITH_BDD_MOCKITO = new WithBDDMockito() { };
+
+    @Benchmark
+    public List<LocalizedMatcher> plainArgThatWithObject() {
+        Mockito.argThat((ArgumentMatcher<SearchCriteria>) c -> c.getMinimumRange() > 1000);
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> plainIntThatWithPrimitive() {
+        Mockito.intThat(i -> i > 2);
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> argLambdaWithObject() {
+        argLambda((SearchCriteria c) -> c.getMinimumRange() > 1000);
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> argLambdaWithPrimitive() {
+        argLambda((Integer i) -> i > 2);
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> argLambdaThrowingWithObject() {
+        argLambdaThrowing((SearchCriteria c) -> c.getMinimumRange() > 1000);
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> assertArgWithObject() {
+        assertArg((SearchCriteria c) -> checkRange(c.getMinimumRange()));
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> assertArgWithPrimitive() {
+        assertArg((Integer i) -> checkRange(i));
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> assertArgThrowingWithObject() {
+        assertArgThrowing((SearchCriteria c) -> checkRange(c.getMinimumRange()));
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> withMockitoArgThat() {
+        WITH_MOCKITO.argThat((ArgumentMatcher<SearchCriteria>) c -> c.getMinimumRange() > 1000);
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> withMockitoIntThat() {
+        WITH_MOCKITO.intThat(i -> i > 2);
+        return MatcherStack.pullAll();
+    }
+
+    @Benchmark
+    public List<LocalizedMatcher> withBDDMockitoArgThat() {
+        WITH_BDD_MOCKITO.argThat((ArgumentMatcher<SearchCriteria>) c -> c.getMinimumRange() > 1000);
+        return MatcherStack.pullAll();
+    }
+
+    private static void checkRange(int range) {
+        if (range < 0) {
+            throw new AssertionError("Negative range: " + range);
+        }
+    }
+}
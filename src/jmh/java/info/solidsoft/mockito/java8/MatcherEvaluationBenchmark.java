@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.BenchmarkDomain.SearchCriteria;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambdaThrowing;
+import static info.solidsoft.mockito.java8.LambdaMatcher.intArgLambda;
+
+/**
+ * Measures a cost of evaluating already created matchers - what happens for every recorded invocation checked during stubbing lookup
+ * or verification.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MatcherEvaluationBenchmark {
+
+    private final SearchCriteria matchingCriteria = new SearchCriteria(1500, 4);
+    private final SearchCriteria notMatchingCriteria = new SearchCriteria(500, 4);
+    private final Integer matchingNumber = 2000;
+    private final Integer notMatchingNumber = 1;
+
+    private ArgumentMatcher<SearchCriteria> plainArgThatMatcher;
+    private ArgumentMatcher<Integer> plainIntThatMatcher;
+    private ArgumentMatcher<SearchCriteria> argLambdaMatcher;
+    private ArgumentMatcher<Integer> argLambdaPrimitiveMatcher;
+    private ArgumentMatcher<Integer> intArgLambdaMatcher;
+    private ArgumentMatcher<SearchCriteria> argLambdaThrowingMatcher;
+    private ArgumentMatcher<SearchCriteria> assertArgMatcher;
+    private ArgumentMatcher<Integer> assertArgPrimitiveMatcher;
+
+    @Setup
+    public void setUpMatchers() {
+        Mockito.argThat((ArgumentMatcher<SearchCriteria>) c -> c.getMinimumRange() > 1000);
+        plainArgThatMatcher = MatcherStack.pullSingle();
+        Mockito.intThat(i -> i > 1000);
+        plainIntThatMatcher = MatcherStack.pullSingle();
+        argLambda((SearchCriteria c) -> c.getMinimumRange() > 1000);
+        argLambdaMatcher = MatcherStack.pullSingle();
+        argLambda((Integer i) -> i > 1000);
+        argLambdaPrimitiveMatcher = MatcherStack.pullSingle();
+        intArgLambda(i -> i > 1000);
+        intArgLambdaMatcher = MatcherStack.pullSingle();
+        argLambdaThrowing((SearchCriteria c) -> c.getMinimumRange() > 1000);
+        argLambdaThrowingMatcher = MatcherStack.pullSingle();
+        assertArg((SearchCriteria c) -> checkGreaterThan1000(c.getMinimumRange()));
+        assertArgMatcher = MatcherStack.pullSingle();
+        assertArg((Integer i) -> checkGreaterThan1000(i));
+        assertArgPrimitiveMatcher = MatcherStack.pullSingle();
+    }
+
+    @Benchmark
+    public boolean plainArgThatMatching() {
+        return plainArgThatMatcher.matches(matchingCriteria);
+    }
+
+    @Benchmark
+    public boolean plainIntThatMatching() {
+        return plainIntThatMatcher.matches(matchingNumber);
+    }
+
+    @Benchmark
+    public boolean argLambdaMatching() {
+        return argLambdaMatcher.matches(matchingCriteria);
+    }
+
+    @Benchmark
+    public boolean argLambdaNotMatching() {
+        return argLambdaMatcher.matches(notMatchingCriteria);
+    }
+
+    @Benchmark
+    public boolean argLambdaWithPrimitiveMatching() {
+        return argLambdaPrimitiveMatcher.matches(matchingNumber);
+    }
+
+    @Benchmark
+    public boolean intArgLambdaMatching() {
+        return intArgLambdaMatcher.matches(matchingNumber);
+    }
+
+    @Benchmark
+    public boolean argLambdaThrowingMatching() {
+        return argLambdaThrowingMatcher.matches(matchingCriteria);
+    }
+
+    @Benchmark
+    public boolean assertArgMatching() {
+        return assertArgMatcher.matches(matchingCriteria);
+    }
+
+    @Benchmark
+    public boolean assertArgNotMatching() {
+        return assertArgMatcher.matches(notMatchingCriteria);
+    }
+
+    @Benchmark
+    public boolean assertArgWithPrimitiveMatching() {
+        return assertArgPrimitiveMatcher.matches(matchingNumber);
+    }
+
+    @Benchmark
+    public boolean assertArgWithPrimitiveNotMatching() {
+        return assertArgPrimitiveMatcher.matches(notMatchingNumber);
+    }
+
+    private static void checkGreaterThan1000(int value) {
+        if (value <= 1000) {
+            throw new AssertionError("Expected value greater than 1000, but was: " + value);
+        }
+    }
+}
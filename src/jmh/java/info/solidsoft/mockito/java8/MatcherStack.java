@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.ArgumentMatcher;
+import org.mockito.internal.matchers.LocalizedMatcher;
+
+import java.util.List;
+
+import static org.mockito.internal.progress.ThreadSafeMockingProgress.mockingProgress;
+
+/**
+ * Gives benchmarks access to matchers reported to Mockito outside of a stubbing/verification context.
+ * <p>
+ * Matchers have to be pulled after every reporting call to not accumulate them on the thread-local matcher stack.
+ */
+class MatcherStack {
+
+    static List<LocalizedMatcher> pullAll() {
+        return mockingProgress().getArgumentMatcherStorage().pullLocalizedMatchers();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ArgumentMatcher<T> pullSingle() {
+        List<LocalizedMatcher> matchers = pullAll();
+        if (matchers.size() != 1) {
+            throw new IllegalStateException("Expected exactly one reported matcher, but was: " + matchers.size());
+        }
+        return (ArgumentMatcher<T>) matchers.get(0).getMatcher();
+    }
+}
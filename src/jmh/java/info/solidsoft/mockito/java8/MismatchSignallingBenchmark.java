@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.BenchmarkDomain.SearchCriteria;
+import org.mockito.ArgumentMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArgThrowing;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambdaThrowing;
+
+/**
+ * Measures a cost of rejecting an argument by a matcher which signals a mismatch with an exception - with a regular exception
+ * (filling in a stack trace) and with a stackless {@link ArgumentMismatch}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MismatchSignallingBenchmark {
+
+    private final SearchCriteria notMatchingCriteria = new SearchCriteria(500, 4);
+
+    private ArgumentMatcher<SearchCriteria> assertArgWithAssertionErrorMatcher;
+    private ArgumentMatcher<SearchCriteria> assertArgWithArgumentMismatchMatcher;
+    private ArgumentMatcher<SearchCriteria> assertArgThrowingWithArgumentMismatchMatcher;
+    private ArgumentMatcher<SearchCriteria> argLambdaThrowingWithExceptionMatcher;
+    private ArgumentMatcher<SearchCriteria> argLambdaThrowingWithArgumentMismatchMatcher;
+
+    @Setup
+    public void setUpMatchers() {
+        assertArg((SearchCriteria c) -> {
+            if (c.getMinimumRange() <= 1000) {
+                throw new AssertionError("Too short range: " + c.getMinimumRange());
+            }
+        });
+        assertArgWithAssertionErrorMatcher = MatcherStack.pullSingle();
+        assertArg((SearchCriteria c) -> {
+            if (c.getMinimumRange() <= 1000) {
+                throw new ArgumentMismatch("Too short range: " + c.getMinimumRange());
+            }
+        });
+        assertArgWithArgumentMismatchMatcher = MatcherStack.pullSingle();
+        assertArgThrowing((SearchCriteria c) -> {
+            if (c.getMinimumRange() <= 1000) {
+                throw new ArgumentMismatch("Too short range: " + c.getMinimumRange());
+            }
+        });
+        assertArgThrowingWithArgumentMismatchMatcher = MatcherStack.pullSingle();
+        argLambdaThrowing((SearchCriteria c) -> {
+            if (c.getMinimumRange() <= 1000) {
+                throw new Exception("Too short range: " + c.getMinimumRange());
+            }
+            return true;
+        });
+        argLambdaThrowingWithExceptionMatcher = MatcherStack.pullSingle();
+        argLambdaThrowing((SearchCriteria c) -> {
+            if (c.getMinimumRange() <= 1000) {
+                throw new ArgumentMismatch("Too short range: " + c.getMinimumRange());
+            }
+            return true;
+        });
+        argLambdaThrowingWithArgumentMismatchMatcher = MatcherStack.pullSingle();
+    }
+
+    @Benchmark
+    public boolean assertArgWithAssertionError() {
+        return assertArgWithAssertionErrorMatcher.matches(notMatchingCriteria);
+    }
+
+    @Benchmark
+    public boolean assertArgWithArgumentMismatch() {
+        return assertArgWithArgumentMismatchMatcher.matches(notMatchingCriteria);
+    }
+
+    @Benchmark
+    public boolean assertArgThrowingWithArgumentMismatch() {
+        return assertArgThrowingWithArgumentMismatchMatcher.matches(notMatchingCriteria);
+    }
+
+    //The previous way to reject an argument by throwing from argLambdaThrowing() - the exception is wrapped and has to be caught
+    @Benchmark
+    public boolean argLambdaThrowingWithException() {
+        try {
+            return argLambdaThrowingWithExceptionMatcher.matches(notMatchingCriteria);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean argLambdaThrowingWithArgumentMismatch() {
+        return argLambdaThrowingWithArgumentMismatchMatcher.matches(notMatchingCriteria);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.BenchmarkDomain.Station;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating a fresh mock for every test with leasing (and releasing) a pooled one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MockPoolBenchmark {
+
+    @Benchmark
+    public Station freshMock() {
+        Station station = Mockito.mock(Station.class);
+        station.fireTorpedo(2);
+        return station;
+    }
+
+    @Benchmark
+    public Station pooledMock() {
+        Station station = MockPool.pooledMock(Station.class);
+        station.fireTorpedo(2);
+        MockPool.releasePooledMocks();
+        return station;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.BenchmarkDomain.SearchCriteria;
+import info.solidsoft.mockito.java8.BenchmarkDomain.Station;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Compares a call to a method with many lambda stubbings with the same stubbings replaced with one {@link KeyedAnswer} - with keys
+ * or with key-less (optionally disjoint) stubbings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class StubbingLookupBenchmark {
+
+    @Param({"10", "100"})
+    private int numberOfStubbings;
+
+    private Station lambdaStubbedStation;
+    private Station keyedAnswerStation;
+    private Station predicateAnswerStation;
+    private Station disjointPredicateAnswerStation;
+    private SearchCriteria firstStubbedCriteria;
+
+    @Setup
+    public void setUpMocks() {
+        lambdaStubbedStation = Mockito.mock(Station.class);
+        keyedAnswerStation = Mockito.mock(Station.class);
+        predicateAnswerStation = Mockito.mock(Station.class);
+        disjointPredicateAnswerStation = Mockito.mock(Station.class);
+        KeyedAnswer.Builder<SearchCriteria, Integer> keyedAnswer = KeyedAnswer.keyedBy(SearchCriteria::getMinimumRange);
+        KeyedAnswer.Builder<SearchCriteria, Void> predicateAnswer = KeyedAnswer.byPredicates();
+        for (int i = 0; i < numberOfStubbings; i++) {
+            int range = i;
+            given(lambdaStubbedStation.findNumberOfShips(argLambda(c -> c != null && c.getMinimumRange() == range))).willReturn(i);
+            keyedAnswer.when(range, i);
+            predicateAnswer.whenMatching(c -> c.getMinimumRange() == range, i);
+        }
+        given(keyedAnswerStation.findNumberOfShips(any())).willAnswer(keyedAnswer.build());
+        given(predicateAnswerStation.findNumberOfShips(any())).willAnswer(predicateAnswer.build());
+        given(disjointPredicateAnswerStation.findNumberOfShips(any())).willAnswer(predicateAnswer.disjoint().build());
+        firstStubbedCriteria = new SearchCriteria(0, 2);    //the worst case for Mockito - the last one to check
+    }
+
+    @Benchmark
+    public int lambdaStubbings() {
+        return lambdaStubbedStation.findNumberOfShips(firstStubbedCriteria);
+    }
+
+    @Benchmark
+    public int keyedAnswer() {
+        return keyedAnswerStation.findNumberOfShips(firstStubbedCriteria);
+    }
+
+    @Benchmark
+    public int predicateAnswer() {
+        return predicateAnswerStation.findNumberOfShips(firstStubbedCriteria);
+    }
+
+    @Benchmark
+    public int disjointPredicateAnswer() {
+        return disjointPredicateAnswerStation.findNumberOfShips(firstStubbedCriteria);
+    }
+}
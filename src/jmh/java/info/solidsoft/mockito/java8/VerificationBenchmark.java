@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.BenchmarkDomain.SearchCriteria;
+import info.solidsoft.mockito.java8.BenchmarkDomain.Station;
+import info.solidsoft.mockito.java8.api.WithBDDMockito;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+
+/**
+ * Measures a full verification round trip (matcher creation, reporting and evaluation) against a mock with one recorded invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class VerificationBenchmark {
+
+    private static final WithBDDMockito WITH_BDD_MOCKITO = new WithBDDMockito() { };
+
+    private Station station;
+
+    @Setup
+    public void setUpMock() {
+        station = Mockito.mock(Station.class);
+        station.findNumberOfShips(new SearchCriteria(1500, 4));
+        station.fireTorpedo(2);
+    }
+
+    @Benchmark
+    public int plainArgThat() {
+        return Mockito.verify(station, Mockito.atLeastOnce())
+                .findNumberOfShips(Mockito.argThat((ArgumentMatcher<SearchCriteria>) c -> c.getMinimumRange() > 1000));
+    }
+
+    @Benchmark
+    public int argLambdaWithObject() {
+        return Mockito.verify(station, Mockito.atLeastOnce()).findNumberOfShips(argLambda(c -> c.getMinimumRange() > 1000));
+    }
+
+    @Benchmark
+    public void argLambdaWithPrimitive() {
+        Mockito.verify(station, Mockito.atLeastOnce()).fireTorpedo(argLambda(i -> i == 2));
+    }
+
+    @Benchmark
+    public int assertArgWithObject() {
+        return Mockito.verify(station, Mockito.atLeastOnce()).findNumberOfShips(assertArg(c -> checkPositive(c.getMinimumRange())));
+    }
+
+    @Benchmark
+    public void assertArgWithPrimitive() {
+        Mockito.verify(station, Mockito.atLeastOnce()).fireTorpedo(assertArg(i -> checkPositive(i)));
+    }
+
+    @Benchmark
+    public void withBDDMockitoThenShould() {
+        WITH_BDD_MOCKITO.then(station).should(WITH_BDD_MOCKITO.atLeastOnce()).fireTorpedo(WITH_BDD_MOCKITO.intThat(i -> i == 2));
+    }
+
+    private static void checkPositive(int value) {
+        if (value <= 0) {
+            throw new AssertionError("Expected positive value, but was: " + value);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import java.util.stream.IntStream;
+
+/**
+ * An order of evaluating conditions (e.g. combined matchers or disjoint stubbings) adapted to observed results and cost - the cheap
+ * conditions most often deciding the result first.
+ * <p>
+ * Results are recorded for every evaluation, but the cost only for the first and then every {@link #SAMPLING_INTERVAL}-th (sampled)
+ * call - reading the clock would cost more than evaluation of typical lambdas. The order is recomputed after a sampled call and
+ * published as a whole - a concurrent evaluation uses either the old or the new one.
+ * <p>
+ * Statistics are deliberately kept in plain fields - with concurrent evaluation some updates can be lost, which only makes the order
+ * slightly less accurate. Atomic updates would cost more than the evaluation of typical lambdas.
+ */
+final class AdaptiveOrder {
+
+    static final int SAMPLING_INTERVAL = 128;   //power of 2
+
+    private final long[] evaluations;
+    private final long[] decisions;
+    private final long[] sampledEvaluations;
+    private final long[] sampledNanos;
+    private int calls;
+    private volatile int pinned;    //number of conditions kept first in the initial order
+    private volatile int[] order;
+
+    AdaptiveOrder(int size) {
+        this.evaluations = new long[size];
+        this.decisions = new long[size];
+        this.sampledEvaluations = new long[size];
+        this.sampledNanos = new long[size];
+        this.order = IntStream.range(0, size).toArray();
+    }
+
+    /**
+     * Starts a call - returns true if the cost of evaluations should be recorded and the order recomputed after the call.
+     */
+    boolean nextCallSampled() {
+        return (calls++ & (SAMPLING_INTERVAL - 1)) == 0;
+    }
+
+    /**
+     * Returns indexes of conditions in the current evaluation order. The returned array must not be modified.
+     */
+    int[] order() {
+        return order;
+    }
+
+    void recordResult(int index, boolean decided) {
+        evaluations[index]++;
+        if (decided) {
+            decisions[index]++;
+        }
+    }
+
+    void recordCost(int index, long nanos) {
+        sampledEvaluations[index]++;
+        sampledNanos[index] += nanos;
+    }
+
+    /**
+     * Keeps conditions with indexes lower than a given one first, in the initial order (e.g. guards other conditions depend on).
+     */
+    void pinPrefix(int length) {
+        if (length <= pinned) {
+            return;
+        }
+        pinned = length;
+        int[] newOrder = new int[evaluations.length];
+        int position = 0;
+        for (; position < length; position++) {
+            newOrder[position] = position;
+        }
+        for (int index : order) {
+            if (index >= length) {
+                newOrder[position++] = index;
+            }
+        }
+        order = newOrder;
+    }
+
+    void reorder() {
+        //Expected number of decisions per nanosecond. Smoothed - a rarely evaluated condition is neither promoted nor demoted based
+        //on a few results and a not yet sampled one is assumed to be cheap. Insertion sort - stable (keeps the initial order on ties),
+        //without boxing and fast for a few, mostly already ordered conditions
+        double[] scores = new double[evaluations.length];
+        for (int i = 0; i < scores.length; i++) {
+            long sampled = sampledEvaluations[i];
+            double decisionRate = (decisions[i] + 1.0) / (evaluations[i] + 2.0);
+            double averageNanos = sampled == 0 ? 0.0 : (double) sampledNanos[i] / sampled;
+            scores[i] = decisionRate / (averageNanos + 1.0);
+        }
+        int pinned = this.pinned;
+        int[] newOrder = order.clone();
+        for (int i = pinned + 1; i < newOrder.length; i++) {
+            int index = newOrder[i];
+            int j = i - 1;
+            while (j >= pinned && scores[newOrder[j]] < scores[index]) {
+                newOrder[j + 1] = newOrder[j];
+                j--;
+            }
+            newOrder[j + 1] = index;
+        }
+        order = newOrder;
+    }
+
+    int[] evaluationOrder() {
+        return order.clone();
+    }
+}
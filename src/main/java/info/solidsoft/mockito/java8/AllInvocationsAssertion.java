@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mockito;
+import org.mockito.exceptions.base.MockitoAssertionError;
+import org.mockito.internal.invocation.MatcherApplicationStrategy;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.internal.verification.api.VerificationData;
+import org.mockito.invocation.Invocation;
+import org.mockito.invocation.MatchableInvocation;
+import org.mockito.verification.VerificationMode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.internal.invocation.MatcherApplicationStrategy.getMatcherApplicationStrategyFor;
+
+/**
+ * Verification mode applying assertions from {@link AssertionMatcher}s to all recorded invocations of a method in one pass.
+ * <p>
+ * Other matchers act as a filter - invocations not matched by them are skipped. Assertion failures from all the remaining invocations are
+ * collected and reported together.
+ *
+ * @see AssertionMatcher#assertAllArgs(Object, java.util.function.Consumer)
+ */
+class AllInvocationsAssertion implements VerificationMode {
+
+    @Override
+    public void verify(VerificationData data) {
+        MatchableInvocation wanted = data.getTarget();
+        @SuppressWarnings("unchecked")
+        List<ArgumentMatcher<?>> matchers = (List) wanted.getMatchers();
+
+        int numberOfAssertedInvocations = 0;
+        StringBuilder failures = new StringBuilder();
+        int numberOfFailures = 0;
+        for (Invocation candidate : data.getAllInvocations()) {
+            if (!isInvocationOfWantedMethod(wanted, candidate)) {
+                continue;
+            }
+            //Varargs are expanded as in Mockito - a matcher per vararg or the last (vararg) matcher for all of them
+            MatcherApplicationStrategy strategy = getMatcherApplicationStrategyFor(candidate, matchers);
+            if (!strategy.forEachMatcherAndArgument(AllInvocationsAssertion::matchesIfNotAssertion)) {
+                continue;
+            }
+            numberOfAssertedInvocations++;
+            candidate.markVerified();
+            List<AssertionError> invocationFailures = new ArrayList<>();
+            strategy.forEachMatcherAndArgument((matcher, argument) -> {
+                if (matcher instanceof AssertionMatcher) {
+                    @SuppressWarnings("unchecked")
+                    AssertionError failure = ((AssertionMatcher<Object>) matcher).check(argument);
+                    if (failure != null) {
+                        invocationFailures.add(failure);
+                    }
+                }
+                return true;
+            });
+            for (AssertionError failure : invocationFailures) {
+                numberOfFailures++;
+                failures.append("\n").append(numberOfFailures).append(") ").append(candidate)
+                        .append("\n").append(candidate.getLocation())
+                        .append("\n").append(failure.getMessage()).append("\n");
+            }
+        }
+
+        if (numberOfAssertedInvocations == 0) {
+            throw new MockitoAssertionError("\nWanted but not invoked:\n" + describeMethod(wanted) + "\n" + wanted.getLocation() + "\n" +
+                    "There were zero matching interactions with this mock.\n");
+        }
+        if (numberOfFailures > 0) {
+            throw new MockitoAssertionError("\n" + numberOfFailures + " failed assertion(s) in " + numberOfAssertedInvocations +
+                    " invocation(s) of " + describeMethod(wanted) + "\n" + failures);
+        }
+    }
+
+    @Override
+    public VerificationMode description(String description) {
+        return VerificationModeFactory.description(this, description);
+    }
+
+    private boolean isInvocationOfWantedMethod(MatchableInvocation wanted, Invocation candidate) {
+        return wanted.getInvocation().getMock() == candidate.getMock() && wanted.hasSameMethod(candidate);
+    }
+
+    private static boolean matchesIfNotAssertion(ArgumentMatcher<?> matcher, Object argument) {
+        @SuppressWarnings("unchecked")
+        ArgumentMatcher<Object> objectMatcher = (ArgumentMatcher<Object>) matcher;
+        return matcher instanceof AssertionMatcher || objectMatcher.matches(argument);
+    }
+
+    private String describeMethod(MatchableInvocation wanted) {
+        Invocation invocation = wanted.getInvocation();
+        return Mockito.mockingDetails(invocation.getMock()).getMockCreationSettings().getMockName() + "." +
+                invocation.getMethod().getName() + "()";
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+/**
+ * A lightweight failure to signal that an argument does not match - without filling in a stack trace.
+ * <p>
+ * Lambdas passed to argLambda() variants can throw it to reject an argument (it is treated as a false result). For assertArg() variants it
+ * is a failed assertion with a given message. It is much cheaper than a regular exception or AssertionError in matchers which reject
+ * many arguments, e.g. with helper methods shared between assertions and stubbing:
+ *
+ * <pre class="code"><code class="java">
+ *   verify(ts, atLeastOnce()).fireTorpedo(assertArg((Integer tube) -&gt; {
+ *       if (tube != 2) {
+ *           throw new ArgumentMismatch("Unexpected tube: " + tube);
+ *       }
+ *   }));
+ * </code></pre>
+ */
+@Incubating
+public class ArgumentMismatch extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArgumentMismatch(String message) {
+        super(message);
+    }
+
+    /**
+     * Does not fill in a stack trace - the location of a failed verification is reported by Mockito.
+     */
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -11,6 +11,8 @@ import org.mockito.Mockito;
 
 import java.util.function.Consumer;
 
+import static info.solidsoft.mockito.java8.SneakyThrow.sneakyRethrow;
+
 /**
  * Allows creating inlined ArgumentCaptor with a lambda expression.
  * <p>
@@ -51,46 +53,155 @@ public class AssertionMatcher<T> implements ArgumentMatcher<T> {
 
     private static final LambdaAwareHandyReturnValues handyReturnValues = new LambdaAwareHandyReturnValues();
 
-    private final Consumer<T> consumer;
-    private String errorMessage;
+    private final Consumer<T> consumer;                     //exactly one of consumer and throwingConsumer is set
+    private final ThrowingConsumer<T> throwingConsumer;
+    //Only the message is kept - not the whole AssertionError with its stack trace. Not written on success.
+    //Per thread - Mockito reports a failure on the verifying thread after evaluating the matcher there, so failures from evaluations
+    //on other threads (e.g. mock invocations from workers checked against a stubbing) cannot replace it. The shared field is a fallback
+    //for threads which have not evaluated the matcher themselves
+    private final ThreadLocal<String> threadErrorMessage = new ThreadLocal<>();
+    private volatile String errorMessage;
+    private String metricsDescription;
 
-    private AssertionMatcher(Consumer<T> consumer) {
+    private AssertionMatcher(Consumer<T> consumer, ThrowingConsumer<T> throwingConsumer) {
         this.consumer = consumer;
+        this.throwingConsumer = throwingConsumer;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public boolean matches(T argument) {
+        AssertionError failure = check(argument);
+        if (failure != null) {
+            String message = failure.getMessage();
+            threadErrorMessage.set(message);
+            errorMessage = message;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Applies the assertion without storing its result - safe to be used for many arguments at once.
+     */
+    AssertionError check(T argument) {
+        if (MatcherMetrics.enabled()) {
+            return MatcherMetrics.timed(this::metricsDescription, () -> apply(argument), failure -> failure == null);
+        }
+        return apply(argument);
+    }
+
+    private AssertionError apply(T argument) {
         try {
-            consumer.accept(argument);
-            return true;
+            if (consumer != null) {
+                consumer.accept(argument);
+            } else {
+                throwingConsumer.accept(argument);
+            }
+            return null;
         } catch (AssertionError e) {
-            errorMessage = e.getMessage();
-            return false;
+            return e;
+        } catch (Exception e) {
+            return sneakyRethrow(e);    //checked exceptions are propagated as thrown
         }
     }
 
+    private String metricsDescription() {
+        //Racy, but harmless - the same value can be computed more than once
+        if (metricsDescription == null) {
+            metricsDescription = "assertArg(" + (consumer != null ? consumer : throwingConsumer).getClass().getName() + ")";
+        }
+        return metricsDescription;
+    }
+
     @Override
     public String toString() {
-        return "AssertionMatcher reported: " + errorMessage;
+        String message = threadErrorMessage.get();
+        return "AssertionMatcher reported: " + (message != null ? message : errorMessage);
     }
 
+    /**
+     * Verifies an argument with assertions in a lambda.
+     * <p>
+     * A safe return value (e.g. 0 for an int parameter) is resolved from the generic type of the lambda. If it cannot be resolved
+     * (e.g. with some JVMs) null is returned, which ends with NullPointerException for a primitive parameter - use
+     * assertArg(Class, Consumer) there.
+     */
     public static <T> T assertArg(Consumer<T> consumer) {
         argThat(consumer);
         return handyReturnValues.returnForConsumerLambda(consumer);
     }
 
+    /**
+     * A variant of assertArg(Consumer) with an explicitly given argument type.
+     * <p>
+     * A safe return value is taken for the type instead of being resolved from the lambda at runtime. It is faster and works also
+     * in environments where the generic type of a lambda cannot be resolved (e.g. with some JVMs):
+     *
+     * <pre class="code"><code class="java">
+     *   verify(ts).fireTorpedo(assertArg(int.class, tube -&gt; assertThat(tube).isEqualTo(2)));
+     * </code></pre>
+     */
+    @Incubating
+    public static <T> T assertArg(Class<T> type, Consumer<T> consumer) {
+        argThat(consumer);
+        return handyReturnValues.returnForType(type);
+    }
+
     /**
      * A variant of assertArg(Consumer) for lambdas declaring checked exceptions.
      */
     @Incubating
     public static <T> T assertArgThrowing(ThrowingConsumer<T> throwingConsumer) {
-        argThat(throwingConsumer.uncheck());
+        argThatThrowing(throwingConsumer);
         return handyReturnValues.returnForConsumerLambdaChecked(throwingConsumer);
     }
 
+    /**
+     * A variant of assertArg(Class, Consumer) for lambdas declaring checked exceptions.
+     */
+    @Incubating
+    public static <T> T assertArgThrowing(Class<T> type, ThrowingConsumer<T> throwingConsumer) {
+        argThatThrowing(throwingConsumer);
+        return handyReturnValues.returnForType(type);
+    }
+
+    /**
+     * Verifies all recorded invocations of a method in a single pass over the mock invocations.
+     * <p>
+     * Unlike verify() with assertArg() (which checks whether at least one invocation satisfies the assertion) the assertion has to be
+     * satisfied by all the invocations of the method. Other matchers used in the method call select invocations to check.
+     * Failures from all invocations are reported together:
+     *
+     * <pre class="code"><code class="java">
+     *   assertAllArgs(ts, t -&gt; t.reloadTubeWithGivenTorpedoType(eq(2), assertArg(type -&gt; assertThat(type).isNotEqualTo(PLASMA))));
+     * </code></pre>
+     *
+     * Asserted invocations are marked as verified.
+     *
+     * @param mock mock to verify
+     * @param methodCall call of the method to verify with assertArg() in place of asserted arguments
+     * @param <M> type of mock
+     */
+    @Incubating
+    public static <M> void assertAllArgs(M mock, Consumer<M> methodCall) {
+        methodCall.accept(Mockito.verify(mock, new AllInvocationsAssertion()));
+    }
+
+    /**
+     * Returns statistics of the cache used to resolve safe return values for lambdas passed to assertArg().
+     */
+    @Incubating
+    public static CacheStatistics returnValueCacheStatistics() {
+        return handyReturnValues.cacheStatistics();
+    }
+
     @SuppressWarnings("ResultOfMethodCallIgnored")
     private static <T> void argThat(Consumer<T> consumer) {
-        Mockito.argThat(new AssertionMatcher<>(consumer));
+        Mockito.argThat(new AssertionMatcher<>(consumer, null));
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private static <T> void argThatThrowing(ThrowingConsumer<T> throwingConsumer) {
+        Mockito.argThat(new AssertionMatcher<>(null, throwingConsumer));
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+import org.mockito.verification.VerificationMode;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Verification of asynchronous interactions without blocking a test thread.
+ * <p>
+ * Verification is retried by a scheduler until it succeeds or a timeout elapses. The result is available as a future - completed
+ * normally or with the last verification failure - which can be combined with other futures of a test:
+ *
+ * <pre class="code"><code class="java">
+ *   CompletableFuture&lt;Void&gt; fired = verifyEventually(ts, Duration.ofSeconds(5), t -&gt; t.fireTorpedo(2));
+ * </code></pre>
+ *
+ * Matchers have to be used inside the lambda as it is called in the scheduler thread.
+ * <p>
+ * Unless a scheduler is given, all verifications (and delayed answers from {@link FutureAnswers}) share a single scheduler thread and
+ * are retried every 10 ms - a slow lambda or a slowly responding mock delays all other pending verifications. Tests running many
+ * verifications concurrently can pass their own scheduler.
+ *
+ * @see FutureAnswers
+ */
+@Incubating
+public final class AsyncVerification {
+
+    private static final long RETRY_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private AsyncVerification() {
+    }
+
+    /**
+     * Verifies that a method is called once within a given time.
+     *
+     * @param mock mock to verify
+     * @param timeout maximum time to wait
+     * @param methodCall call of the method to verify
+     * @param <M> type of mock
+     * @return future completed when verification succeeds or with the last verification failure after the timeout
+     */
+    public static <M> CompletableFuture<Void> verifyEventually(M mock, Duration timeout, Consumer<M> methodCall) {
+        return verifyEventually(mock, Mockito.times(1), timeout, methodCall);
+    }
+
+    /**
+     * A variant of verifyEventually(Object, Duration, Consumer) with a given verification mode.
+     */
+    public static <M> CompletableFuture<Void> verifyEventually(M mock, VerificationMode mode, Duration timeout, Consumer<M> methodCall) {
+        return verifyEventually(mock, mode, timeout, methodCall, DefaultScheduler.get());
+    }
+
+    /**
+     * A variant of verifyEventually(Object, VerificationMode, Duration, Consumer) with verification retried by a given scheduler.
+     */
+    public static <M> CompletableFuture<Void> verifyEventually(M mock, VerificationMode mode, Duration timeout, Consumer<M> methodCall,
+                                                               ScheduledExecutorService scheduler) {
+        EventualVerification<M> verification = new EventualVerification<>(mock, mode, methodCall,
+                System.nanoTime() + timeout.toNanos(), scheduler);
+        scheduler.execute(verification);
+        return verification.result;
+    }
+
+    private static class EventualVerification<M> implements Runnable {
+
+        private final M mock;
+        private final VerificationMode mode;
+        private final Consumer<M> methodCall;
+        private final long deadline;
+        private final ScheduledExecutorService scheduler;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private EventualVerification(M mock, VerificationMode mode, Consumer<M> methodCall, long deadline,
+                                     ScheduledExecutorService scheduler) {
+            this.mock = mock;
+            this.mode = mode;
+            this.methodCall = methodCall;
+            this.deadline = deadline;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {  //cancelled
+                return;
+            }
+            try {
+                methodCall.accept(Mockito.verify(mock, mode));
+                result.complete(null);
+            } catch (AssertionError e) {
+                if (System.nanoTime() - deadline >= 0) {
+                    result.completeExceptionally(e);
+                } else {
+                    scheduler.schedule(this, RETRY_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+                }
+            } catch (Throwable e) {    //anything else escaping to the scheduler would be swallowed - the future would never complete
+                result.completeExceptionally(e);
+                discardUnfinishedVerification();
+            }
+        }
+
+        //A lambda failed before calling a mock - the scheduler thread cannot be left with a started verification
+        private void discardUnfinishedVerification() {
+            try {
+                Mockito.validateMockitoUsage();
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+}
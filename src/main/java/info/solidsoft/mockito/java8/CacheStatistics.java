@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+/**
+ * An immutable snapshot of hit and miss counters of an internal cache.
+ * <p>
+ * Counters are gathered without locking, so a snapshot taken while the cache is in use can be slightly out of date.
+ */
+@Incubating
+public final class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+
+    CacheStatistics(long hitCount, long missCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of cache hits to all requests or 1.0 if there were no requests yet.
+     */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                '}';
+    }
+}
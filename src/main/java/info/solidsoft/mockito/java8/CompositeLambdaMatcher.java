@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.ArgumentMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A single matcher combining other matchers with short-circuit evaluation.
+ * <p>
+ * The matchers are evaluated in an {@link AdaptiveOrder adaptive order} - the cheap ones most often deciding the result (e.g. rejecting
+ * an argument in allOf()) first. As a result the order of evaluation is not defined, so the combined matchers should be free of
+ * side effects.
+ * <p>
+ * The declared order is treated as a dependency order - as with &amp;&amp; a guard (e.g. a null check) can protect matchers declared
+ * after it. If a matcher evaluated before some of the matchers declared ahead of it throws an exception, the argument is evaluated
+ * again in the declared order and the matchers up to the throwing one are pinned in that order.
+ *
+ * @param <T> type of argument
+ */
+class CompositeLambdaMatcher<T> implements ArgumentMatcher<T> {
+
+    enum Mode {
+        ALL_OF("allOf", false),
+        ANY_OF("anyOf", true),
+        NONE_OF("noneOf", true);
+
+        private final String name;
+        private final boolean decisiveResult;   //result of a single matcher which decides the result of the whole composite
+
+        Mode(String name, boolean decisiveResult) {
+            this.name = name;
+            this.decisiveResult = decisiveResult;
+        }
+
+        private boolean resultWhenDecided() {
+            return this == ANY_OF;
+        }
+    }
+
+    private final Mode mode;
+    private final List<ArgumentMatcher<? super T>> matchers;
+    private final AdaptiveOrder adaptiveOrder;
+
+    CompositeLambdaMatcher(Mode mode, List<ArgumentMatcher<? super T>> matchers) {
+        if (matchers.isEmpty()) {
+            throw new IllegalArgumentException(mode.name + "() requires at least one matcher");
+        }
+        this.mode = mode;
+        this.matchers = new ArrayList<>(matchers);
+        this.adaptiveOrder = new AdaptiveOrder(matchers.size());
+    }
+
+    @Override
+    public boolean matches(T argument) {
+        boolean sampled = adaptiveOrder.nextCallSampled();
+        int[] order = adaptiveOrder.order();
+        try {
+            for (int position = 0; position < order.length; position++) {
+                boolean decided;
+                try {
+                    decided = decides(order[position], argument, sampled);
+                } catch (RuntimeException e) {
+                    if (isAfterAllDeclaredBefore(order, position)) {
+                        throw e;
+                    }
+                    adaptiveOrder.pinPrefix(order[position] + 1);
+                    return matchesInDeclaredOrder(argument);
+                }
+                if (decided) {
+                    return mode.resultWhenDecided();
+                }
+            }
+            return !mode.resultWhenDecided();
+        } finally {
+            if (sampled) {
+                adaptiveOrder.reorder();
+            }
+        }
+    }
+
+    int[] evaluationOrder() {
+        return adaptiveOrder.evaluationOrder();
+    }
+
+    private boolean matchesInDeclaredOrder(T argument) {
+        for (ArgumentMatcher<? super T> matcher : matchers) {
+            if (matcher.matches(argument) == mode.decisiveResult) {
+                return mode.resultWhenDecided();
+            }
+        }
+        return !mode.resultWhenDecided();
+    }
+
+    private static boolean isAfterAllDeclaredBefore(int[] order, int position) {
+        int index = order[position];
+        int evaluatedDeclaredBefore = 0;
+        for (int i = 0; i < position; i++) {
+            if (order[i] < index) {
+                evaluatedDeclaredBefore++;
+            }
+        }
+        return evaluatedDeclaredBefore == index;
+    }
+
+    private boolean decides(int index, T argument, boolean sampled) {
+        long start = sampled ? System.nanoTime() : 0L;
+        boolean decided = matchers.get(index).matches(argument) == mode.decisiveResult;
+        if (sampled) {
+            adaptiveOrder.recordCost(index, System.nanoTime() - start);
+        }
+        adaptiveOrder.recordResult(index, decided);
+        return decided;
+    }
+
+    @Override
+    public String toString() {
+        return matchers.stream().map(String::valueOf).collect(Collectors.joining(", ", mode.name + "(", ")"));
+    }
+}
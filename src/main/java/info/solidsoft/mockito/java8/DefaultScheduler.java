@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * A scheduler used by asynchronous answers and verifications if no other was provided. Created on the first use.
+ * <p>
+ * A single daemon thread is enough as scheduled tasks only complete futures and check mocks - it never blocks JVM shutdown.
+ */
+final class DefaultScheduler {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mockito-java8-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private DefaultScheduler() {
+    }
+
+    static ScheduledExecutorService get() {
+        return SCHEDULER;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers for methods returning {@link CompletableFuture} (or {@link java.util.concurrent.CompletionStage}).
+ * <p>
+ * Every invocation gets its own future. Delayed futures are completed by a scheduler, so neither a test thread nor a tested code
+ * is blocked in the meantime:
+ *
+ * <pre class="code"><code class="java">
+ *   given(service.fetchShip(2)).willAnswer(completedAfter(Duration.ofMillis(100), enterprise));
+ * </code></pre>
+ *
+ * @see AsyncVerification
+ */
+@Incubating
+public final class FutureAnswers {
+
+    private FutureAnswers() {
+    }
+
+    /**
+     * Returns already completed future with a given value.
+     */
+    public static <T> Answer<CompletableFuture<T>> completedWith(T value) {
+        return invocation -> CompletableFuture.completedFuture(value);
+    }
+
+    /**
+     * Returns future completed with a given value after a delay by a shared, internal scheduler.
+     */
+    public static <T> Answer<CompletableFuture<T>> completedAfter(Duration delay, T value) {
+        return completedAfter(delay, value, DefaultScheduler.get());
+    }
+
+    /**
+     * Returns future completed with a given value after a delay by a given scheduler.
+     */
+    public static <T> Answer<CompletableFuture<T>> completedAfter(Duration delay, T value, ScheduledExecutorService scheduler) {
+        long delayNanos = delay.toNanos();
+        return invocation -> {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            scheduler.schedule(() -> future.complete(value), delayNanos, TimeUnit.NANOSECONDS);
+            return future;
+        };
+    }
+
+    /**
+     * Returns already failed future with a given exception.
+     */
+    public static <T> Answer<CompletableFuture<T>> failedWith(Throwable failure) {
+        return invocation -> {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(failure);
+            return future;
+        };
+    }
+}
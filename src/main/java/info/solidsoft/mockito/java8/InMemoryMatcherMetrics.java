@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A default {@link MatcherEvaluationListener} aggregating evaluation metrics in memory per matcher description.
+ * <p>
+ * Counters are updated without locking (with {@link LongAdder}), so matchers evaluated in parallel do not contend.
+ */
+@Incubating
+public final class InMemoryMatcherMetrics implements MatcherEvaluationListener {
+
+    private final ConcurrentMap<String, Counters> countersByDescription = new ConcurrentHashMap<>();
+
+    InMemoryMatcherMetrics() {
+    }
+
+    @Override
+    public void matcherEvaluated(String matcherDescription, long durationNanos, boolean matched) {
+        Counters counters = countersByDescription.get(matcherDescription);  //no lambda allocation in computeIfAbsent() for a known description
+        if (counters == null) {
+            counters = countersByDescription.computeIfAbsent(matcherDescription, d -> new Counters());
+        }
+        counters.record(durationNanos, matched);
+    }
+
+    /**
+     * Returns metrics of all evaluated matchers, the longest total evaluation time first.
+     */
+    public List<MatcherStatistics> statistics() {
+        return countersByDescription.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(MatcherStatistics::totalNanos).reversed())
+                .collect(toList());
+    }
+
+    /**
+     * Returns metrics of all evaluated matchers as a human readable table.
+     */
+    public String report() {
+        List<MatcherStatistics> statistics = statistics();
+        StringBuilder report = new StringBuilder("Mockito-Java8 matcher metrics (").append(statistics.size()).append(" matchers):\n");
+        report.append(String.format("%12s %10s %10s %12s  %s%n", "total [ms]", "count", "failures", "max [us]", "description"));
+        for (MatcherStatistics s : statistics) {
+            report.append(String.format("%12.3f %10d %10d %12.1f  %s%n", s.totalNanos() / 1e6, s.evaluationCount(), s.failureCount(),
+                    s.maxNanos() / 1e3, s.description()));
+        }
+        return report.toString();
+    }
+
+    public void reset() {
+        countersByDescription.clear();
+    }
+
+    private static class Counters {
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long durationNanos, boolean matched) {
+            evaluations.increment();
+            if (!matched) {
+                failures.increment();
+            }
+            totalNanos.add(durationNanos);
+            maxNanos.accumulate(durationNanos);
+        }
+
+        private MatcherStatistics snapshot(String description) {
+            return new MatcherStatistics(description, evaluations.sum(), failures.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Mockito;
+import org.mockito.listeners.InvocationListener;
+import org.mockito.listeners.MethodInvocationReport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Wakes up threads waiting for an invocation of a mock. Registered as an invocation listener of the mock - Mockito calls it after
+ * an invocation is already recorded, so it can be verified by a woken up thread.
+ * <p>
+ * The lock is taken only if there is a waiting thread - a mock invoked when nobody waits for it only increments a counter.
+ */
+class InvocationNotifier implements InvocationListener {
+
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AtomicLong invocationCount = new AtomicLong();
+    private final AtomicInteger waitingThreads = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition invoked = lock.newCondition();
+
+    @Override
+    public void reportInvocation(MethodInvocationReport methodInvocationReport) {
+        invocationCount.incrementAndGet();
+        if (waitingThreads.get() > 0) {
+            lock.lock();
+            try {
+                invoked.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    long invocationCount() {
+        return invocationCount.get();
+    }
+
+    /**
+     * Waits until there is an invocation other than already seen ones or the time elapses.
+     *
+     * @param seenInvocationCount invocation count read before the last verification attempt
+     * @param timeoutNanos maximum time to wait
+     */
+    void awaitNextInvocation(long seenInvocationCount, long timeoutNanos) throws InterruptedException {
+        //Registered before the count is checked again - an invocation reported in the meantime is either seen or signalled
+        waitingThreads.incrementAndGet();
+        lock.lock();
+        try {
+            long remainingNanos = timeoutNanos;
+            while (invocationCount.get() == seenInvocationCount && remainingNanos > 0) {
+                remainingNanos = invoked.awaitNanos(remainingNanos);
+            }
+        } finally {
+            lock.unlock();
+            waitingThreads.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits for a next invocation with a given notifier or - if a mock has no notifier - for a poll interval.
+     * <p>
+     * Parks a thread without holding any monitor (as Thread.sleep() or Object.wait() in a synchronized block would) - a waiting
+     * virtual thread releases its carrier thread.
+     *
+     * @return false if the waiting thread was interrupted
+     */
+    static boolean awaitInvocation(InvocationNotifier notifier, long seenInvocationCount, long remainingNanos) {
+        if (notifier == null) {
+            LockSupport.parkNanos(Math.min(remainingNanos, POLL_INTERVAL_NANOS));
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            notifier.awaitNextInvocation(seenInvocationCount, remainingNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns notifier registered for a given mock or null if the mock was created without it.
+     */
+    static InvocationNotifier of(Object mock) {
+        for (InvocationListener listener : Mockito.mockingDetails(mock).getMockCreationSettings().getInvocationListeners()) {
+            if (listener instanceof InvocationNotifier) {
+                return (InvocationNotifier) listener;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Answers;
+import org.mockito.Incubating;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * An answer dispatching to stubbed values by a key extracted from an argument.
+ * <p>
+ * With many lambda stubbings of one method Mockito evaluates them one by one (starting from the last one) for every call. If stubbings
+ * can be distinguished by a cheap key (e.g. a getter), they can be replaced with one answer finding candidates with a hash lookup:
+ *
+ * <pre class="code"><code class="java">
+ *   given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(
+ *       KeyedAnswer.keyedBy(ShipSearchCriteria::getMinimumRange)
+ *           .when(1000, 4)
+ *           .when(1500, 5)
+ *           .when(1500, c -&gt; c.getNumberOfPhasers() &gt; 2, 7)
+ *           .build());
+ * </code></pre>
+ *
+ * As in Mockito, if more than one stubbing for a key matches an argument, the last one wins. Values for arguments without a matching
+ * stubbing (or null arguments) are provided by a fallback answer - {@link Answers#RETURNS_DEFAULTS} by default.
+ * <p>
+ * Data driven tests can install a whole table (e.g. loaded from a CSV file) as one stubbing. Rows which cannot be expressed with a key
+ * are checked one by one (the last one first), but only if there is no matching keyed stubbing:
+ *
+ * <pre class="code"><code class="java">
+ *   given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(
+ *       KeyedAnswer.keyedBy(ShipSearchCriteria::getMinimumRange)
+ *           .whenAll(shipsByRange)
+ *           .whenMatching(c -&gt; c.getMinimumRange() &gt; 10_000, 0)
+ *           .build());
+ * </code></pre>
+ *
+ * If key-less stubbings are declared as {@link Builder#disjoint() disjoint} (no argument matches more than one of them) the first
+ * matching one decides and they are checked in an {@link AdaptiveOrder adaptive order} - the cheap and frequently matching ones
+ * first. All of them are evaluated in sampled calls, which also verifies the declaration - an argument matched by more than one
+ * stubbing fails the call.
+ *
+ * @param <T> type of argument
+ * @param <K> type of key
+ */
+@Incubating
+public final class KeyedAnswer<T, K> implements Answer<Object> {
+
+    private final int argumentIndex;
+    private final Function<T, K> keyExtractor;
+    private final Map<K, List<Stubbing<T>>> stubbingsByKey;    //the last declared stubbing first
+    private final List<Stubbing<T>> keylessStubbings;          //the last declared stubbing first
+    private final AdaptiveOrder keylessOrder;                   //null if key-less stubbings are not disjoint
+    private final Answer<?> fallbackAnswer;
+
+    private KeyedAnswer(Builder<T, K> builder) {
+        this.argumentIndex = builder.argumentIndex;
+        this.keyExtractor = builder.keyExtractor;
+        this.fallbackAnswer = builder.fallbackAnswer;
+        Map<K, List<Stubbing<T>>> stubbingsByKey = new HashMap<>();
+        for (Map.Entry<K, List<Stubbing<T>>> keyStubbings : builder.stubbingsByKey.entrySet()) {
+            List<Stubbing<T>> stubbings = new ArrayList<>(keyStubbings.getValue());
+            Collections.reverse(stubbings);
+            stubbingsByKey.put(keyStubbings.getKey(), stubbings);
+        }
+        this.stubbingsByKey = stubbingsByKey;
+        List<Stubbing<T>> keylessStubbings = new ArrayList<>(builder.keylessStubbings);
+        Collections.reverse(keylessStubbings);
+        this.keylessStubbings = keylessStubbings;
+        this.keylessOrder = builder.disjoint ? new AdaptiveOrder(keylessStubbings.size()) : null;
+    }
+
+    /**
+     * Creates a builder of an answer dispatching by a key extracted from the first argument.
+     */
+    public static <T, K> Builder<T, K> keyedBy(Function<T, K> keyExtractor) {
+        return keyedBy(0, keyExtractor);
+    }
+
+    /**
+     * Creates a builder of an answer dispatching by a key extracted from the argument at a given index.
+     */
+    public static <T, K> Builder<T, K> keyedBy(int argumentIndex, Function<T, K> keyExtractor) {
+        return new Builder<>(argumentIndex, keyExtractor);
+    }
+
+    /**
+     * Creates a builder of an answer checking only key-less stubbings (see {@link Builder#whenMatching(Predicate, Object)}) of
+     * the first argument.
+     */
+    public static <T> Builder<T, Void> byPredicates() {
+        return byPredicates(0);
+    }
+
+    /**
+     * Creates a builder of an answer checking only key-less stubbings (see {@link Builder#whenMatching(Predicate, Object)}) of
+     * the argument at a given index.
+     */
+    public static <T> Builder<T, Void> byPredicates(int argumentIndex) {
+        return new Builder<>(argumentIndex, null);
+    }
+
+    /**
+     * Creates an answer returning values from a table for keys extracted from the first argument.
+     */
+    public static <T, K> KeyedAnswer<T, K> fromTable(Function<T, K> keyExtractor, Map<? extends K, ?> valuesByKey) {
+        return KeyedAnswer.<T, K>keyedBy(keyExtractor).whenAll(valuesByKey).build();
+    }
+
+    @Override
+    public Object answer(InvocationOnMock invocation) throws Throwable {
+        T argument = invocation.getArgument(argumentIndex);
+        if (argument != null) {
+            if (keyExtractor != null) {
+                Stubbing<T> stubbing = findMatching(stubbingsByKey.get(keyExtractor.apply(argument)), argument);
+                if (stubbing != null) {
+                    return stubbing.value;
+                }
+            }
+            Stubbing<T> stubbing = keylessOrder != null ? findDisjointMatching(argument) : findMatching(keylessStubbings, argument);
+            if (stubbing != null) {
+                return stubbing.value;
+            }
+        }
+        return fallbackAnswer.answer(invocation);
+    }
+
+    /**
+     * Returns the key-less stubbings evaluation order as indexes of declaration.
+     */
+    int[] keylessEvaluationOrder() {
+        int[] order = keylessOrder != null ? keylessOrder.evaluationOrder() : IntStream.range(0, keylessStubbings.size()).toArray();
+        for (int i = 0; i < order.length; i++) {
+            order[i] = keylessStubbings.size() - 1 - order[i];
+        }
+        return order;
+    }
+
+    private Stubbing<T> findDisjointMatching(T argument) {
+        if (keylessOrder.nextCallSampled()) {
+            try {
+                return findOnlyMatching(argument);
+            } finally {
+                keylessOrder.reorder();
+            }
+        }
+        for (int index : keylessOrder.order()) {
+            Stubbing<T> candidate = keylessStubbings.get(index);
+            boolean matches = candidate.matches(argument);
+            keylessOrder.recordResult(index, matches);
+            if (matches) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Stubbing<T> findOnlyMatching(T argument) {
+        Stubbing<T> matching = null;
+        int matchingIndex = 0;
+        for (int index = 0; index < keylessStubbings.size(); index++) {
+            Stubbing<T> candidate = keylessStubbings.get(index);
+            long start = System.nanoTime();
+            boolean matches = candidate.matches(argument);
+            keylessOrder.recordCost(index, System.nanoTime() - start);
+            keylessOrder.recordResult(index, matches);
+            if (matches) {
+                if (matching != null) {
+                    int lastIndex = keylessStubbings.size() - 1;    //in declaration order
+                    throw new IllegalStateException(String.format("Key-less stubbings %d and %d declared as disjoint both match argument: %s",
+                            lastIndex - index, lastIndex - matchingIndex, argument));
+                }
+                matching = candidate;
+                matchingIndex = index;
+            }
+        }
+        return matching;
+    }
+
+    private static <T> Stubbing<T> findMatching(List<Stubbing<T>> candidates, T argument) {
+        if (candidates != null) {
+            for (Stubbing<T> candidate : candidates) {
+                if (candidate.matches(argument)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class Stubbing<T> {
+
+        private final Predicate<T> lambda;  //null if the key itself is enough
+        private final Object value;
+
+        private Stubbing(Predicate<T> lambda, Object value) {
+            this.lambda = lambda;
+            this.value = value;
+        }
+
+        private boolean matches(T argument) {
+            return lambda == null || lambda.test(argument);
+        }
+    }
+
+    /**
+     * A builder of {@link KeyedAnswer}.
+     *
+     * @param <T> type of argument
+     * @param <K> type of key
+     */
+    public static final class Builder<T, K> {
+
+        private final int argumentIndex;
+        private final Function<T, K> keyExtractor;
+        private final Map<K, List<Stubbing<T>>> stubbingsByKey = new HashMap<>();
+        private final List<Stubbing<T>> keylessStubbings = new ArrayList<>();
+        private boolean disjoint;
+        private Answer<?> fallbackAnswer = Answers.RETURNS_DEFAULTS;
+
+        private Builder(int argumentIndex, Function<T, K> keyExtractor) {
+            this.argumentIndex = argumentIndex;
+            this.keyExtractor = keyExtractor;
+        }
+
+        /**
+         * Returns a value for all arguments with a given key.
+         */
+        public Builder<T, K> when(K key, Object value) {
+            return addStubbing(key, null, value);
+        }
+
+        /**
+         * Returns a value for arguments with a given key which additionally match a lambda.
+         */
+        public Builder<T, K> when(K key, Predicate<T> lambda, Object value) {
+            return addStubbing(key, lambda, value);
+        }
+
+        /**
+         * Returns values for all keys from a given table (as when(key, value) for every entry).
+         */
+        public Builder<T, K> whenAll(Map<? extends K, ?> valuesByKey) {
+            for (Map.Entry<? extends K, ?> keyValue : valuesByKey.entrySet()) {
+                addStubbing(keyValue.getKey(), null, keyValue.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Returns a value for arguments matching a lambda. Checked only if there is no matching stubbing for the argument key.
+         */
+        public Builder<T, K> whenMatching(Predicate<T> lambda, Object value) {
+            keylessStubbings.add(new Stubbing<>(lambda, value));
+            return this;
+        }
+
+        /**
+         * Declares that no argument is matched by more than one key-less stubbing, so they can be checked in an adaptive order.
+         */
+        public Builder<T, K> disjoint() {
+            this.disjoint = true;
+            return this;
+        }
+
+        /**
+         * Sets an answer used for arguments without matching stubbing.
+         */
+        public Builder<T, K> otherwise(Answer<?> fallbackAnswer) {
+            this.fallbackAnswer = fallbackAnswer;
+            return this;
+        }
+
+        public KeyedAnswer<T, K> build() {
+            return new KeyedAnswer<>(this);
+        }
+
+        private Builder<T, K> addStubbing(K key, Predicate<T> lambda, Object value) {
+            if (keyExtractor == null) {
+                throw new IllegalStateException("Keyed stubbing cannot be used without a key extractor - use whenMatching() instead");
+            }
+            stubbingsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(new Stubbing<>(lambda, value));
+            return this;
+        }
+    }
+}
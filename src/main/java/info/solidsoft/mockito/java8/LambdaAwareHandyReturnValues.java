@@ -8,28 +8,84 @@ package info.solidsoft.mockito.java8;
 import net.jodah.typetools.TypeResolver;
 import org.mockito.internal.util.Primitives;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 /**
  * Extended version of HandyReturnValues which can resolve safe return type also for Consumer argument.
  *
  * Under the hood it uses TypeTools library which is used to work also for primitive argument types (to not throw NullPointerException).
+ * <p>
+ * Resolved values are cached per lambda class with {@link ClassValue} - they are stored alongside the class itself, so the cache is bounded
+ * by the number of loaded lambda classes and does not prevent them (or their class loaders) from being unloaded.
+ * <p>
+ * Lambda introspection is not available in a GraalVM native image - null is returned there, which is fine for reference type arguments
+ * (see assertArg(Class, Consumer) for primitive arguments). Please note that the whole library cannot run in a native image anyway,
+ * as Mockito 2 generates mock classes at runtime - no native-image metadata is provided.
  *
  * @author Marcin Zajączkowski
  */
 class LambdaAwareHandyReturnValues {
 
+    private final boolean lambdaIntrospectionAvailable;
+    private final ClassValue<Object> consumerReturnValues = new ReturnValueResolver(Consumer.class);
+    private final ClassValue<Object> throwingConsumerReturnValues = new ReturnValueResolver(ThrowingConsumer.class);
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    LambdaAwareHandyReturnValues() {
+        this(System.getProperty("org.graalvm.nativeimage.imagecode") == null);
+    }
+
+    LambdaAwareHandyReturnValues(boolean lambdaIntrospectionAvailable) {
+        this.lambdaIntrospectionAvailable = lambdaIntrospectionAvailable;
+    }
+
     <T> T returnForConsumerLambda(Consumer<T> consumer) {
-        return internalReturnForLambda(consumer, Consumer.class);
+        return internalReturnForLambda(consumer, consumerReturnValues);
     }
 
     <T> T returnForConsumerLambdaChecked(ThrowingConsumer<T> throwingConsumer) {
-        return internalReturnForLambda(throwingConsumer, ThrowingConsumer.class);
+        return internalReturnForLambda(throwingConsumer, throwingConsumerReturnValues);
+    }
+
+    /**
+     * Returns a safe value for an explicitly given argument type. TypeTools (and its lambda introspection) is not used - its classes
+     * are not even loaded if only this variant is used.
+     */
+    <T> T returnForType(Class<T> type) {
+        return Primitives.defaultValue(type);
+    }
+
+    CacheStatistics cacheStatistics() {
+        long requestCount = lookups.sum();
+        long missCount = misses.sum();
+        return new CacheStatistics(requestCount - missCount, missCount);
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T internalReturnForLambda(Object consumer, Class consumerType) {
-        Class<?>[] typeArgs = TypeResolver.resolveRawArguments(consumerType, consumer.getClass());
-        return (T) Primitives.defaultValue(typeArgs[0]);
+    private <T> T internalReturnForLambda(Object consumer, ClassValue<Object> returnValues) {
+        lookups.increment();
+        return (T) returnValues.get(consumer.getClass());
+    }
+
+    private class ReturnValueResolver extends ClassValue<Object> {
+
+        private final Class<?> consumerType;
+
+        private ReturnValueResolver(Class<?> consumerType) {
+            this.consumerType = consumerType;
+        }
+
+        @Override
+        protected Object computeValue(Class<?> lambdaType) {
+            misses.increment();
+            if (!lambdaIntrospectionAvailable) {
+                return null;
+            }
+            Class<?>[] typeArgs = TypeResolver.resolveRawArguments(consumerType, lambdaType);
+            return Primitives.defaultValue(typeArgs[0]);
+        }
     }
 }
@@ -8,9 +8,19 @@ package info.solidsoft.mockito.java8;
 import org.mockito.ArgumentMatcher;
 import org.mockito.Incubating;
 
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.ArgumentMatchers.longThat;
 
 /**
  * Allows creating inlined argument matcher with a lambda expression.
@@ -78,50 +88,175 @@ import static org.mockito.ArgumentMatchers.argThat;
 @SuppressWarnings("WeakerAccess")
 public class LambdaMatcher<T> implements ArgumentMatcher<T> {
 
-    private final ArgumentMatcher<T> backendMatcher;    //TODO: Could it be done with just one matcher?
+    private static final String DEFAULT_DESCRIPTION = "Inline lambda expression - add description in code to get more detailed error message";
+
+    private final Predicate<? super T> preFilter;  //cheap check (e.g. type or key) evaluated before the lambda, null if not used
+    private final Predicate<T> lambda;                      //exactly one of lambda and throwingLambda is set
+    private final ThrowingPredicate<T> throwingLambda;
+    private String description;
+    private final Supplier<String> descriptionSupplier;
+    private String metricsDescription;
 
     private LambdaMatcher(Predicate<T> lambda, String description) {
-        this.backendMatcher = new ArgumentMatcher<T>() {
-            @Override
-            public boolean matches(T item) {
-                try {
-                    return lambda.test(item);
-                } catch (Exception e) {
-                    throw new RuntimeException(e); //Could be potentially tricked with CheckedPredicate.uncheck(), but kept for backward compatibility
-                }
-            }
+        this(null, lambda, description);
+    }
 
-            @Override
-            public String toString() {
-                return description;
-            }
-        };
+    private LambdaMatcher(Predicate<? super T> preFilter, Predicate<T> lambda, String description) {
+        this.preFilter = preFilter;
+        this.lambda = lambda;
+        this.throwingLambda = null;
+        this.description = description;
+        this.descriptionSupplier = null;
+    }
+
+    private LambdaMatcher(Predicate<T> lambda, Supplier<String> descriptionSupplier) {
+        this.preFilter = null;
+        this.lambda = lambda;
+        this.throwingLambda = null;
+        this.descriptionSupplier = descriptionSupplier;
+    }
+
+    //Kept as is - without an unchecking wrapper, as checked exceptions are handled in matches() anyway
+    private LambdaMatcher(ThrowingPredicate<T> throwingLambda, String description) {
+        this.preFilter = null;
+        this.lambda = null;
+        this.throwingLambda = throwingLambda;
+        this.description = description;
+        this.descriptionSupplier = null;
     }
 
     @Override
     public boolean matches(T item) {
-        return backendMatcher.matches(item);
+        if (MatcherMetrics.enabled()) {
+            return MatcherMetrics.timed(this::metricsDescription, () -> evaluate(item));
+        }
+        return evaluate(item);
+    }
+
+    private boolean evaluate(T item) {
+        try {
+            if (preFilter != null && !preFilter.test(item)) {
+                return false;
+            }
+            return lambda != null ? lambda.test(item) : throwingLambda.test(item);
+        } catch (ArgumentMismatch e) {
+            return false;
+        } catch (Exception e) {
+            throw new RuntimeException(e); //Could be potentially tricked with CheckedPredicate.uncheck(), but kept for backward compatibility
+        }
     }
 
     @Override
     public String toString() {
-        return backendMatcher.toString();
+        //Racy, but harmless - description is only used in error messages and supplier can be called more than once
+        if (description == null && descriptionSupplier != null) {
+            description = descriptionSupplier.get();
+        }
+        return description;
+    }
+
+    private String metricsDescription() {
+        //Racy, but harmless as toString()
+        if (metricsDescription == null) {
+            metricsDescription = metricsDescription("argLambda", toString(), lambda != null ? lambda : throwingLambda);
+        }
+        return metricsDescription;
+    }
+
+    /**
+     * Undescribed lambdas are distinguished in metrics by their classes (named after a declaring class).
+     */
+    static String metricsDescription(String factoryMethod, String description, Object lambda) {
+        return DEFAULT_DESCRIPTION.equals(description) ? factoryMethod + "(" + lambda.getClass().getName() + ")" : description;
     }
 
     public static <T> T argLambda(Predicate<T> lambda) {
-        return argLambda(lambda, "Inline lambda expression - add description in code to get more detailed error message");
+        return argLambda(lambda, DEFAULT_DESCRIPTION);
     }
 
     public static <T> T argLambda(Predicate<T> lambda, String description) {
         return argThat(new LambdaMatcher<>(lambda, description));
     }
 
+    /**
+     * A variant of argLambda(Predicate, String) with a description built only when it is needed in an error message.
+     */
+    @Incubating
+    public static <T> T argLambda(Predicate<T> lambda, Supplier<String> descriptionSupplier) {
+        return argThat(new LambdaMatcher<>(lambda, descriptionSupplier));
+    }
+
+    /**
+     * A variant of argLambda(Predicate) evaluating the lambda only for arguments being instances of a given type.
+     * <p>
+     * Useful with many stubbings of a method accepting a supertype - other types are rejected without calling the lambda.
+     */
+    @Incubating
+    public static <T> T argLambda(Class<T> type, Predicate<T> lambda) {
+        return argLambda(type, lambda, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) evaluating the lambda only for arguments being instances of a given type.
+     */
+    @Incubating
+    public static <T> T argLambda(Class<T> type, Predicate<T> lambda, String description) {
+        return argThat(new LambdaMatcher<>(type::isInstance, lambda, description));
+    }
+
+    /**
+     * A variant of argLambda(Predicate) evaluating the lambda only for arguments with a given key.
+     * <p>
+     * A cheap key extractor (e.g. a getter) is checked before a potentially expensive lambda. Arguments with a different key (or null)
+     * are rejected without calling the lambda:
+     *
+     * <pre class="code"><code class="java">
+     *   given(ts.findNumberOfShipsInRangeByCriteria(argLambda(ShipSearchCriteria::getMinimumRange, 1000, c -&gt; expensiveCheck(c))))
+     *       .willReturn(4);
+     * </code></pre>
+     *
+     * See {@link KeyedAnswer} to replace many such stubbings with one hash lookup.
+     */
+    @Incubating
+    public static <T, K> T argLambda(Function<T, K> keyExtractor, K expectedKey, Predicate<T> lambda) {
+        return argLambda(keyExtractor, expectedKey, lambda, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) evaluating the lambda only for arguments with a given key.
+     */
+    @Incubating
+    public static <T, K> T argLambda(Function<T, K> keyExtractor, K expectedKey, Predicate<T> lambda, String description) {
+        Predicate<T> keyFilter = item -> item != null && Objects.equals(expectedKey, keyExtractor.apply(item));
+        return argThat(new LambdaMatcher<>(keyFilter, lambda, description));
+    }
+
+    /**
+     * A variant of argLambda(Predicate) for expensive lambdas - the predicate is evaluated only once for a given argument (instance).
+     *
+     * @see MemoizingPredicate
+     */
+    @Incubating
+    public static <T> T argLambdaMemoized(Predicate<T> lambda) {
+        return argLambda(MemoizingPredicate.memoize(lambda), DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) for expensive lambdas - the predicate is evaluated only once for a given argument (instance).
+     *
+     * @see MemoizingPredicate
+     */
+    @Incubating
+    public static <T> T argLambdaMemoized(Predicate<T> lambda, String description) {
+        return argLambda(MemoizingPredicate.memoize(lambda), description);
+    }
+
     /**
      * A variant of argLambda(Predicate) for lambdas declaring checked ecceptions.
      */
     @Incubating
     public static <T> T argLambdaThrowing(ThrowingPredicate<T> throwingLambda) {
-        return argLambda(throwingLambda.uncheck(), "Inline lambda expression - add description in code to get more detailed error message");
+        return argLambdaThrowing(throwingLambda, DEFAULT_DESCRIPTION);
     }
 
     /**
@@ -129,6 +264,215 @@ public class LambdaMatcher<T> implements ArgumentMatcher<T> {
      */
     @Incubating
     public static <T> T argLambdaThrowing(ThrowingPredicate<T> throwingLambda, String description) {
-        return argThat(new LambdaMatcher<>(throwingLambda.uncheck(), description));
+        return argThat(new LambdaMatcher<>(throwingLambda, description));
+    }
+
+    /**
+     * Creates a matcher from a lambda without registering it in Mockito - to be combined with allOf(), anyOf() or noneOf().
+     */
+    @Incubating
+    public static <T> ArgumentMatcher<T> lambda(Predicate<T> lambda) {
+        return lambda(lambda, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * Creates a described matcher from a lambda without registering it in Mockito - to be combined with allOf(), anyOf() or noneOf().
+     */
+    @Incubating
+    public static <T> ArgumentMatcher<T> lambda(Predicate<T> lambda, String description) {
+        return new LambdaMatcher<>(lambda, description);
+    }
+
+    /**
+     * Matches an argument matched by all given matchers.
+     * <p>
+     * Registers a single matcher (instead of a matcher per condition as with AdditionalMatchers.and()) which stops on the first
+     * rejecting matcher and combines descriptions in an error message:
+     *
+     * <pre class="code"><code class="java">
+     *   verify(ts).findNumberOfShipsInRangeByCriteria(allOf(
+     *       lambda((ShipSearchCriteria c) -&gt; c.getMinimumRange() &gt; 1000, "range &gt; 1000"),
+     *       lambda((ShipSearchCriteria c) -&gt; c.getNumberOfPhasers() &lt; 4, "phasers &lt; 4")));
+     * </code></pre>
+     *
+     * Cheap matchers which most often reject arguments are evaluated first, so they should not have side effects. As with &amp;&amp;
+     * a guard can be declared first - if a matcher evaluated ahead of it throws an exception, the matchers are evaluated in
+     * the declared order.
+     */
+    @Incubating
+    @SafeVarargs
+    @SuppressWarnings("varargs")   //the array is only copied
+    public static <T> T allOf(ArgumentMatcher<? super T>... matchers) {
+        return argThat(new CompositeLambdaMatcher<>(CompositeLambdaMatcher.Mode.ALL_OF, Arrays.asList(matchers)));
+    }
+
+    /**
+     * Matches an argument matched by any of given matchers. Stops on the first accepting matcher.
+     *
+     * @see #allOf(ArgumentMatcher[])
+     */
+    @Incubating
+    @SafeVarargs
+    @SuppressWarnings("varargs")   //the array is only copied
+    public static <T> T anyOf(ArgumentMatcher<? super T>... matchers) {
+        return argThat(new CompositeLambdaMatcher<>(CompositeLambdaMatcher.Mode.ANY_OF, Arrays.asList(matchers)));
+    }
+
+    /**
+     * Matches an argument not matched by any of given matchers. Stops on the first accepting matcher.
+     *
+     * @see #allOf(ArgumentMatcher[])
+     */
+    @Incubating
+    @SafeVarargs
+    @SuppressWarnings("varargs")   //the array is only copied
+    public static <T> T noneOf(ArgumentMatcher<? super T>... matchers) {
+        return argThat(new CompositeLambdaMatcher<>(CompositeLambdaMatcher.Mode.NONE_OF, Arrays.asList(matchers)));
+    }
+
+    /**
+     * A variant of argLambda(Predicate) for int arguments.
+     * <p>
+     * Returns 0 (a safe value for a primitive argument) and passes an argument to the predicate without an additional boxing.
+     */
+    @Incubating
+    public static int intArgLambda(IntPredicate lambda) {
+        return intArgLambda(lambda, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) for int arguments.
+     */
+    @Incubating
+    public static int intArgLambda(IntPredicate lambda, String description) {
+        return intThat(new IntLambdaMatcher(lambda, description));
+    }
+
+    /**
+     * A variant of argLambda(Predicate) for long arguments.
+     * <p>
+     * Returns 0 (a safe value for a primitive argument) and passes an argument to the predicate without an additional boxing.
+     */
+    @Incubating
+    public static long longArgLambda(LongPredicate lambda) {
+        return longArgLambda(lambda, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) for long arguments.
+     */
+    @Incubating
+    public static long longArgLambda(LongPredicate lambda, String description) {
+        return longThat(new LongLambdaMatcher(lambda, description));
+    }
+
+    /**
+     * A variant of argLambda(Predicate) for double arguments.
+     * <p>
+     * Returns 0 (a safe value for a primitive argument) and passes an argument to the predicate without an additional boxing.
+     */
+    @Incubating
+    public static double doubleArgLambda(DoublePredicate lambda) {
+        return doubleArgLambda(lambda, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) for double arguments.
+     */
+    @Incubating
+    public static double doubleArgLambda(DoublePredicate lambda, String description) {
+        return doubleThat(new DoubleLambdaMatcher(lambda, description));
+    }
+
+    //Mockito keeps invocation arguments boxed, so it is only unboxed once here. Null is possible only for wrapper type parameters.
+
+    private abstract static class PrimitiveLambdaMatcher<T> implements ArgumentMatcher<T> {
+
+        private final String factoryMethod;
+        private final Object lambda;
+        private final String description;
+        private String metricsDescription;
+
+        private PrimitiveLambdaMatcher(String factoryMethod, Object lambda, String description) {
+            this.factoryMethod = factoryMethod;
+            this.lambda = lambda;
+            this.description = description;
+        }
+
+        @Override
+        public boolean matches(T item) {
+            if (MatcherMetrics.enabled()) {
+                return MatcherMetrics.timed(this::metricsDescription, () -> evaluate(item));
+            }
+            return evaluate(item);
+        }
+
+        private boolean evaluate(T item) {
+            try {
+                return item != null && test(item);
+            } catch (ArgumentMismatch e) {
+                return false;
+            }
+        }
+
+        abstract boolean test(T item);
+
+        @Override
+        public String toString() {
+            return description;
+        }
+
+        private String metricsDescription() {
+            //Racy, but harmless - the same value can be computed more than once
+            if (metricsDescription == null) {
+                metricsDescription = LambdaMatcher.metricsDescription(factoryMethod, description, lambda);
+            }
+            return metricsDescription;
+        }
+    }
+
+    private static class IntLambdaMatcher extends PrimitiveLambdaMatcher<Integer> {
+
+        private final IntPredicate lambda;
+
+        private IntLambdaMatcher(IntPredicate lambda, String description) {
+            super("intArgLambda", lambda, description);
+            this.lambda = lambda;
+        }
+
+        @Override
+        boolean test(Integer item) {
+            return lambda.test(item);
+        }
+    }
+
+    private static class LongLambdaMatcher extends PrimitiveLambdaMatcher<Long> {
+
+        private final LongPredicate lambda;
+
+        private LongLambdaMatcher(LongPredicate lambda, String description) {
+            super("longArgLambda", lambda, description);
+            this.lambda = lambda;
+        }
+
+        @Override
+        boolean test(Long item) {
+            return lambda.test(item);
+        }
+    }
+
+    private static class DoubleLambdaMatcher extends PrimitiveLambdaMatcher<Double> {
+
+        private final DoublePredicate lambda;
+
+        private DoubleLambdaMatcher(DoublePredicate lambda, String description) {
+            super("doubleArgLambda", lambda, description);
+            this.lambda = lambda;
+        }
+
+        @Override
+        boolean test(Double item) {
+            return lambda.test(item);
+        }
     }
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+/**
+ * Notified about every evaluation of argLambda() and assertArg() matchers when registered with {@link MatcherMetrics#setListener}.
+ * <p>
+ * Called synchronously in the thread evaluating a matcher (possibly many threads at once) - implementations should be thread safe and cheap.
+ *
+ * @see InMemoryMatcherMetrics
+ */
+@Incubating
+public interface MatcherEvaluationListener {
+
+    /**
+     * @param matcherDescription description of a matcher or a name of its lambda class if no description was provided
+     * @param durationNanos evaluation time in nanoseconds
+     * @param matched false if an argument was not matched (including a failed assertion or a thrown exception)
+     */
+    void matcherEvaluated(String matcherDescription, long durationNanos, boolean matched);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Optional instrumentation of argLambda() (including its primitive variants) and assertArg() (also in assertAllArgs()) matcher
+ * evaluations.
+ * <p>
+ * Disabled by default - matchers only check that there is no listener and do not measure time. It can be enabled in code:
+ *
+ * <pre class="code"><code class="java">
+ *   InMemoryMatcherMetrics metrics = MatcherMetrics.recordInMemory();
+ * </code></pre>
+ *
+ * or for a whole test suite with a system property <code>-Dmockito-java8.matcherMetrics=true</code>. Metrics recorded in memory are
+ * printed to the standard error at JVM shutdown, the slowest matchers first.
+ */
+@Incubating
+public final class MatcherMetrics {
+
+    static final String ENABLED_PROPERTY = "mockito-java8.matcherMetrics";
+
+    private static volatile MatcherEvaluationListener listener;
+    private static volatile InMemoryMatcherMetrics inMemoryMetrics;
+    private static final AtomicBoolean shutdownReportRegistered = new AtomicBoolean();
+
+    static {
+        if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+            recordInMemory();
+        }
+    }
+
+    private MatcherMetrics() {
+    }
+
+    /**
+     * Registers a listener notified about every matcher evaluation (replacing the previous one).
+     */
+    public static void setListener(MatcherEvaluationListener newListener) {
+        listener = newListener;
+    }
+
+    /**
+     * Starts recording metrics in memory (replacing the previous listener). A report is printed at JVM shutdown.
+     *
+     * @return recorder to get metrics from
+     */
+    public static InMemoryMatcherMetrics recordInMemory() {
+        InMemoryMatcherMetrics metrics = new InMemoryMatcherMetrics();
+        inMemoryMetrics = metrics;
+        listener = metrics;
+        if (shutdownReportRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(MatcherMetrics::printReport, "mockito-java8-matcher-metrics"));
+        }
+        return metrics;
+    }
+
+    /**
+     * Stops notifying a listener about matcher evaluations.
+     */
+    public static void disable() {
+        listener = null;
+        inMemoryMetrics = null;
+    }
+
+    /**
+     * Checked by matchers before {@link #timed} - lambdas passed to it are not created if metrics are disabled.
+     */
+    static boolean enabled() {
+        return listener != null;
+    }
+
+    /**
+     * Evaluates a matcher and notifies the listener (if any) about the result. The key is computed only if there is a listener.
+     */
+    static boolean timed(Supplier<String> key, BooleanSupplier evaluation) {
+        return timed(key, evaluation::getAsBoolean, Boolean::booleanValue);
+    }
+
+    /**
+     * A variant of timed(Supplier, BooleanSupplier) for evaluations returning a result other than boolean. A thrown exception is
+     * reported as not matched.
+     */
+    static <R> R timed(Supplier<String> key, Supplier<R> evaluation, Predicate<? super R> matched) {
+        MatcherEvaluationListener currentListener = listener;
+        if (currentListener == null) {
+            return evaluation.get();
+        }
+        R result = null;
+        boolean completed = false;
+        long start = System.nanoTime();
+        try {
+            result = evaluation.get();
+            completed = true;
+            return result;
+        } finally {
+            currentListener.matcherEvaluated(key.get(), System.nanoTime() - start, completed && matched.test(result));
+        }
+    }
+
+    private static void printReport() {
+        InMemoryMatcherMetrics metrics = inMemoryMetrics;
+        if (metrics != null) {
+            System.err.print(metrics.report());
+        }
+    }
+}
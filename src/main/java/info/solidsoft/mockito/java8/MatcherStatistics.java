@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+/**
+ * An immutable snapshot of evaluation metrics of matchers with the same description.
+ *
+ * @see InMemoryMatcherMetrics
+ */
+@Incubating
+public final class MatcherStatistics {
+
+    private final String description;
+    private final long evaluationCount;
+    private final long failureCount;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    MatcherStatistics(String description, long evaluationCount, long failureCount, long totalNanos, long maxNanos) {
+        this.description = description;
+        this.evaluationCount = evaluationCount;
+        this.failureCount = failureCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    public long evaluationCount() {
+        return evaluationCount;
+    }
+
+    /**
+     * Returns the number of evaluations which did not match an argument.
+     */
+    public long failureCount() {
+        return failureCount;
+    }
+
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    public long maxNanos() {
+        return maxNanos;
+    }
+
+    public long averageNanos() {
+        return evaluationCount == 0 ? 0 : totalNanos / evaluationCount;
+    }
+
+    @Override
+    public String toString() {
+        return "MatcherStatistics{" +
+                "description='" + description + '\'' +
+                ", evaluationCount=" + evaluationCount +
+                ", failureCount=" + failureCount +
+                ", totalNanos=" + totalNanos +
+                ", maxNanos=" + maxNanos +
+                '}';
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A predicate remembering its result for every tested argument.
+ * <p>
+ * Mockito can evaluate the same matcher against the same argument many times (in stubbing lookup and verification). With an expensive
+ * predicate (e.g. a deep comparison of large objects) it is worth to evaluate it only once per argument:
+ *
+ * <pre class="code"><code class="java">
+ *   MemoizingPredicate&lt;ShipSearchCriteria&gt; expensiveCheck = MemoizingPredicate.memoize(c -&gt; deepCompare(c, expectedCriteria));
+ *   given(ts.findNumberOfShipsInRangeByCriteria(argLambda(expensiveCheck))).willReturn(4);
+ *   ...
+ *   System.out.println(expensiveCheck.statistics());
+ * </code></pre>
+ *
+ * Results are cached per argument identity (not equality) and arguments are weakly referenced, so they can still be garbage collected.
+ * The predicate is expected to be pure - to return the same result for the same (unmodified) argument.
+ * <p>
+ * See {@link LambdaMatcher#argLambdaMemoized(Predicate)} for a shortcut if statistics are not needed.
+ *
+ * @param <T> type of argument
+ */
+@Incubating
+public final class MemoizingPredicate<T> implements Predicate<T> {
+
+    private final Predicate<T> lambda;
+    private final ConcurrentMap<Object, Boolean> results = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collectedArguments = new ReferenceQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private MemoizingPredicate(Predicate<T> lambda) {
+        this.lambda = lambda;
+    }
+
+    public static <T> MemoizingPredicate<T> memoize(Predicate<T> lambda) {
+        return new MemoizingPredicate<>(lambda);
+    }
+
+    @Override
+    public boolean test(T argument) {
+        if (argument == null) {
+            misses.increment();
+            return lambda.test(null);
+        }
+        Boolean cachedResult = results.get(new LookupKey(argument));
+        if (cachedResult != null) {
+            hits.increment();
+            return cachedResult;
+        }
+        misses.increment();
+        boolean result = lambda.test(argument);
+        expungeCollectedArguments();
+        results.put(new WeakIdentityKey(argument, collectedArguments), result);
+        return result;
+    }
+
+    public CacheStatistics statistics() {
+        return new CacheStatistics(hits.sum(), misses.sum());
+    }
+
+    private void expungeCollectedArguments() {
+        Reference<?> collectedKey;
+        while ((collectedKey = collectedArguments.poll()) != null) {
+            results.remove(collectedKey);
+        }
+    }
+
+    //Keys compare arguments by identity. WeakIdentityKey (stored in the map) and LookupKey (used for lookups - without creating
+    //a weak reference) are equal if they point to the same argument. A collected WeakIdentityKey is equal only to itself.
+
+    private static final class WeakIdentityKey extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        private WeakIdentityKey(Object argument, ReferenceQueue<Object> queue) {
+            super(argument, queue);
+            this.hashCode = System.identityHashCode(argument);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            Object argument = get();
+            if (argument == null) {
+                return false;
+            }
+            if (other instanceof LookupKey) {
+                return ((LookupKey) other).argument == argument;
+            }
+            return other instanceof WeakIdentityKey && ((WeakIdentityKey) other).get() == argument;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class LookupKey {
+
+        private final Object argument;
+
+        private LookupKey(Object argument) {
+            this.argument = argument;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof WeakIdentityKey && ((WeakIdentityKey) other).get() == argument;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(argument);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+import org.mockito.exceptions.base.MockitoException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A per-thread pool of mocks (created with default settings) reused between tests.
+ * <p>
+ * In large test suites the same types are mocked over and over again. A pooled mock is taken from a pool of the current thread
+ * (or created if there is no free one) and after a test it has to be released. Released mocks are reset - they lose all stubbings and
+ * recorded invocations - and can be reused by next tests executed in the same thread:
+ *
+ * <pre class="code"><code class="java">
+ * class ShipTest implements WithMockito {
+ *
+ *   private TacticalStation ts = pooledMock(TacticalStation.class);
+ *
+ *   {@literal @}AfterEach
+ *   void releaseMocks() {
+ *     releasePooledMocks();
+ *   }
+ * }
+ * </code></pre>
+ *
+ * Mocks leased in a thread are never shared with other threads and a mock is never given out twice before it is released.
+ * A released mock is handed out to the next test in the same thread - it must not be used after release (e.g. through a reference kept
+ * in a static field or by a background task), as such use is not detected and would interfere with that test.
+ * <p>
+ * Leased mocks are kept until they are released. To not leak mocks if releasePooledMocks() is not called, at most
+ * {@value #MAX_LEASED_MOCKS} mocks can be leased in a thread at once - leasing more fails.
+ *
+ * @see info.solidsoft.mockito.java8.api.WithMockito#pooledMock(Class)
+ */
+@Incubating
+public final class MockPool {
+
+    static final int MAX_LEASED_MOCKS = 1000;
+
+    private static final ThreadLocal<MockPool> threadPool = ThreadLocal.withInitial(MockPool::new);
+
+    private final Map<Class<?>, Deque<Object>> availableMocks = new HashMap<>();
+    private final List<Object> leasedMocks = new ArrayList<>();
+
+    private MockPool() {
+    }
+
+    /**
+     * Returns a mock of a given type from a pool of the current thread (creating it if needed).
+     */
+    public static <T> T pooledMock(Class<T> classToMock) {
+        return threadPool.get().lease(classToMock);
+    }
+
+    /**
+     * Resets all mocks leased in the current thread and returns them to the pool.
+     */
+    public static void releasePooledMocks() {
+        threadPool.get().releaseAll();
+    }
+
+    /**
+     * Returns the number of mocks leased in the current thread and not released yet.
+     */
+    public static int numberOfLeasedMocks() {
+        return threadPool.get().leasedMocks.size();
+    }
+
+    private <T> T lease(Class<T> classToMock) {
+        if (leasedMocks.size() >= MAX_LEASED_MOCKS) {
+            throw new MockitoException(String.format("%d pooled mocks leased in the current thread have not been released. "
+                    + "Call releasePooledMocks() after each test (e.g. in an @AfterEach method).", leasedMocks.size()));
+        }
+        Deque<Object> available = availableMocks.get(classToMock);
+        Object mock = available != null ? available.poll() : null;
+        if (mock == null) {
+            mock = Mockito.mock(classToMock);
+        }
+        leasedMocks.add(mock);
+        return classToMock.cast(mock);
+    }
+
+    private void releaseAll() {
+        if (leasedMocks.isEmpty()) {
+            return;
+        }
+        Mockito.reset(leasedMocks.toArray());
+        for (Object mock : leasedMocks) {
+            Class<?> mockedType = Mockito.mockingDetails(mock).getMockCreationSettings().getTypeToMock();
+            availableMocks.computeIfAbsent(mockedType, type -> new ArrayDeque<>()).push(mock);
+        }
+        leasedMocks.clear();
+    }
+}
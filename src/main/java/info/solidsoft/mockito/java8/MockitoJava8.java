@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+
+/**
+ * General purpose utility methods.
+ */
+@Incubating
+public final class MockitoJava8 {
+
+    private static final AtomicReference<CompletableFuture<Void>> warmUp = new AtomicReference<>();
+
+    private MockitoJava8() {
+    }
+
+    /**
+     * Initializes Mockito and mockito-java8 internals in a background thread.
+     * <p>
+     * The first mock creation and the first assertArg() in a JVM take noticeably longer than next ones - mock maker (with ByteBuddy) and
+     * lambda type resolution (with TypeTools) have to be loaded and initialized. Calling this method as early as possible (e.g. in a static
+     * initializer of a base test class or in a test framework extension) allows to do it in parallel with test engine startup and test
+     * discovery, instead of in the first test.
+     * <p>
+     * Only the first call starts the warm-up, subsequent calls return the same future. Waiting for it is not required - Mockito can be
+     * used at the same time from other threads. The returned future does not fail - if the warm-up fails the problem is reported
+     * in tests anyway.
+     *
+     * @return future completed when the warm-up is finished
+     */
+    public static CompletableFuture<Void> warmUp() {
+        CompletableFuture<Void> future = warmUp.get();
+        if (future == null) {
+            CompletableFuture<Void> newFuture = new CompletableFuture<>();
+            if (warmUp.compareAndSet(null, newFuture)) {
+                Thread warmUpThread = new Thread(() -> doWarmUp(newFuture), "mockito-java8-warm-up");
+                warmUpThread.setDaemon(true);
+                warmUpThread.start();
+                return newFuture;
+            }
+            future = warmUp.get();
+        }
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void doWarmUp(CompletableFuture<Void> future) {
+        try {
+            Consumer<String> warmUpMock = Mockito.mock(Consumer.class);
+            warmUpMock.accept("warm-up");
+            Mockito.verify(warmUpMock).accept(argLambda(s -> s.startsWith("warm")));
+            Mockito.verify(warmUpMock).accept(assertArg(s -> {
+                if (s.isEmpty()) {
+                    throw new AssertionError();
+                }
+            }));
+            Mockito.validateMockitoUsage();
+        } catch (RuntimeException | Error ignored) {
+            //problem (if any) is not related to the warm-up and will be reported by the first test anyway
+        } finally {
+            future.complete(null);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.internal.verification.api.VerificationData;
+import org.mockito.verification.VerificationMode;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A variant of {@link Mockito#after(long)} which waits without polling a mock.
+ * <p>
+ * A waiting thread is parked for the whole period (it does not hold any monitor, so a virtual thread does not pin its carrier thread)
+ * and verification is done once at the end. With never() and atMost() - which cannot be satisfied again once broken - it is woken up
+ * by invocations of a mock created with {@link NotifyingTimeout#withInvocationNotifications()} and fails as soon as there are too many
+ * of them:
+ *
+ * <pre class="code"><code class="java">
+ *   verify(ts, notifyingAfter(500).never()).fireTorpedo(2);
+ * </code></pre>
+ *
+ * @see NotifyingTimeout
+ */
+@Incubating
+public final class NotifyingAfter implements VerificationMode {
+
+    private final long periodNanos;
+    private final VerificationMode delegate;
+    private final boolean failFast;
+
+    private NotifyingAfter(long periodNanos, VerificationMode delegate, boolean failFast) {
+        this.periodNanos = periodNanos;
+        this.delegate = delegate;
+        this.failFast = failFast;
+    }
+
+    /**
+     * Verifies that the method is called once during a given time.
+     *
+     * @param millis time to wait in milliseconds
+     */
+    public static NotifyingAfter notifyingAfter(long millis) {
+        return new NotifyingAfter(TimeUnit.MILLISECONDS.toNanos(millis), Mockito.times(1), false);
+    }
+
+    public NotifyingAfter times(int wantedNumberOfInvocations) {
+        return new NotifyingAfter(periodNanos, Mockito.times(wantedNumberOfInvocations), false);
+    }
+
+    public NotifyingAfter never() {
+        return new NotifyingAfter(periodNanos, Mockito.never(), true);
+    }
+
+    public NotifyingAfter atLeast(int minNumberOfInvocations) {
+        return new NotifyingAfter(periodNanos, Mockito.atLeast(minNumberOfInvocations), false);
+    }
+
+    public NotifyingAfter atLeastOnce() {
+        return new NotifyingAfter(periodNanos, Mockito.atLeastOnce(), false);
+    }
+
+    public NotifyingAfter atMost(int maxNumberOfInvocations) {
+        return new NotifyingAfter(periodNanos, Mockito.atMost(maxNumberOfInvocations), true);
+    }
+
+    @Override
+    public void verify(VerificationData data) {
+        long deadline = System.nanoTime() + periodNanos;
+        if (failFast) {
+            verifyOnEveryInvocation(data, deadline);
+        } else {
+            parkUntil(deadline);
+        }
+        delegate.verify(data);
+    }
+
+    @Override
+    public VerificationMode description(String description) {
+        return VerificationModeFactory.description(this, description);
+    }
+
+    private void verifyOnEveryInvocation(VerificationData data, long deadline) {
+        InvocationNotifier notifier = InvocationNotifier.of(data.getTarget().getInvocation().getMock());
+        while (true) {
+            long seenInvocationCount = notifier != null ? notifier.invocationCount() : 0;
+            delegate.verify(data);
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0 || !InvocationNotifier.awaitInvocation(notifier, seenInvocationCount, remainingNanos)) {
+                return;
+            }
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remainingNanos;
+        while ((remainingNanos = deadline - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+    }
+}
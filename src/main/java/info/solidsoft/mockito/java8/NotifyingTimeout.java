@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.MockSettings;
+import org.mockito.Mockito;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.internal.verification.api.VerificationData;
+import org.mockito.verification.VerificationMode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A variant of {@link Mockito#timeout(long)} woken up by invocations of a mock instead of polling it.
+ * <p>
+ * Verification is retried as soon as the mock is invoked and succeeds without waiting for a next poll interval. A waiting thread does not
+ * use CPU in the meantime. It requires a mock created with {@link #withInvocationNotifications()}:
+ *
+ * <pre class="code"><code class="java">
+ *   TacticalStation ts = mock(TacticalStation.class, withInvocationNotifications());
+ *   executor.submit(() -&gt; ts.fireTorpedo(2));
+ *   verify(ts, notifyingTimeout(5000).times(1)).fireTorpedo(2);
+ * </code></pre>
+ *
+ * Other mocks are polled every 10 ms (as with Mockito's timeout()).
+ */
+@Incubating
+public final class NotifyingTimeout implements VerificationMode {
+
+    private final long timeoutNanos;
+    private final VerificationMode delegate;
+
+    private NotifyingTimeout(long timeoutNanos, VerificationMode delegate) {
+        this.timeoutNanos = timeoutNanos;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Verifies that the method is called once within a given time.
+     *
+     * @param millis maximum time to wait in milliseconds
+     */
+    public static NotifyingTimeout notifyingTimeout(long millis) {
+        return new NotifyingTimeout(TimeUnit.MILLISECONDS.toNanos(millis), Mockito.times(1));
+    }
+
+    /**
+     * Returns mock settings notifying {@link NotifyingTimeout} about mock invocations. They can be further customized.
+     */
+    public static MockSettings withInvocationNotifications() {
+        return Mockito.withSettings().invocationListeners(new InvocationNotifier());
+    }
+
+    public NotifyingTimeout times(int wantedNumberOfInvocations) {
+        return new NotifyingTimeout(timeoutNanos, Mockito.times(wantedNumberOfInvocations));
+    }
+
+    public NotifyingTimeout atLeast(int minNumberOfInvocations) {
+        return new NotifyingTimeout(timeoutNanos, Mockito.atLeast(minNumberOfInvocations));
+    }
+
+    public NotifyingTimeout atLeastOnce() {
+        return new NotifyingTimeout(timeoutNanos, Mockito.atLeastOnce());
+    }
+
+    public NotifyingTimeout only() {
+        return new NotifyingTimeout(timeoutNanos, Mockito.only());
+    }
+
+    @Override
+    public void verify(VerificationData data) {
+        InvocationNotifier notifier = InvocationNotifier.of(data.getTarget().getInvocation().getMock());
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (true) {
+            long seenInvocationCount = notifier != null ? notifier.invocationCount() : 0;
+            try {
+                delegate.verify(data);
+                return;
+            } catch (AssertionError e) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0 || !InvocationNotifier.awaitInvocation(notifier, seenInvocationCount, remainingNanos)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public VerificationMode description(String description) {
+        return VerificationModeFactory.description(this, description);
+    }
+}
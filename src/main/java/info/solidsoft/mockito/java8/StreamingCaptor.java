@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.internal.verification.api.VerificationData;
+import org.mockito.invocation.Invocation;
+import org.mockito.invocation.MatchableInvocation;
+import org.mockito.verification.VerificationMode;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Allows to process arguments of recorded invocations as a Java 8 stream.
+ * <p>
+ * In contrast to ArgumentCaptor, captured values are not collected into a list - the stream lazily goes through matching invocations
+ * of a mock, so even millions of them can be processed in constant (additional) memory:
+ *
+ * <pre class="code"><code class="java">
+ * {@literal @}Test
+ * public void shouldFireOnlyFromLoadedTubes() {
+ *     //when
+ *     ts.fireAll();
+ *     //then
+ *     long firedFromUnloadedTubes = captureStream(ts, t -&gt; t.fireTorpedo(anyInt()))
+ *             .filter(tubeNumber -&gt; !loadedTubes.contains(tubeNumber))
+ *             .count();
+ *     assertThat(firedFromUnloadedTubes).isZero();
+ * }
+ * </code></pre>
+ *
+ * Matchers used in the method call select invocations to process. Invocations are marked as verified when reached by the stream.
+ */
+@Incubating
+public class StreamingCaptor {
+
+    private StreamingCaptor() {
+    }
+
+    /**
+     * Returns a stream of the first argument of matching invocations.
+     *
+     * @param mock mock to capture arguments from
+     * @param methodCall call of the method to capture arguments from, with matchers selecting invocations
+     * @param <M> type of mock
+     * @param <A> type of argument
+     */
+    public static <M, A> Stream<A> captureStream(M mock, Consumer<M> methodCall) {
+        return captureStream(mock, 0, methodCall);
+    }
+
+    /**
+     * Returns a stream of the argument at a given index (0 based, varargs are expanded) of matching invocations.
+     *
+     * @param mock mock to capture arguments from
+     * @param argumentIndex index of an argument to capture
+     * @param methodCall call of the method to capture arguments from, with matchers selecting invocations
+     * @param <M> type of mock
+     * @param <A> type of argument
+     */
+    public static <M, A> Stream<A> captureStream(M mock, int argumentIndex, Consumer<M> methodCall) {
+        VerificationDataCapture capture = new VerificationDataCapture();
+        methodCall.accept(Mockito.verify(mock, capture));
+        MatchableInvocation wanted = capture.data.getTarget();
+        return capture.data.getAllInvocations().stream()
+                .filter(wanted::matches)
+                .map(invocation -> capturedArgument(invocation, argumentIndex));
+    }
+
+    private static <A> A capturedArgument(Invocation invocation, int argumentIndex) {
+        invocation.markVerified();
+        return invocation.getArgument(argumentIndex);
+    }
+
+    /**
+     * Only remembers verification data to be used after the verification call.
+     */
+    private static class VerificationDataCapture implements VerificationMode {
+
+        private VerificationData data;
+
+        @Override
+        public void verify(VerificationData data) {
+            this.data = data;
+        }
+
+        @Override
+        public VerificationMode description(String description) {
+            return VerificationModeFactory.description(this, description);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A registry of mocks created in the current thread.
+ * <p>
+ * Mockito keeps its stubbing/verification state (e.g. the matcher stack) per thread. With tests executed in parallel (e.g. with JUnit 5
+ * parallel execution) it is important to validate and clean up everything created by a test in the thread which executed it,
+ * not to leak a misuse or a state into other tests.
+ * <p>
+ * Mocks are registered with weak references - a mock no longer used by a test is not kept by a (possibly long-lived) thread even if
+ * {@link #validateAndReset()} is never called.
+ *
+ * @see info.solidsoft.mockito.java8.api.WithParallelMockito
+ */
+@Incubating
+public final class ThreadMockRegistry {
+
+    private static final ThreadLocal<ThreadMocks> threadMocks = ThreadLocal.withInitial(ThreadMocks::new);
+
+    private ThreadMockRegistry() {
+    }
+
+    /**
+     * Registers a mock created in the current thread.
+     */
+    public static <T> T register(T mock) {
+        threadMocks.get().add(mock);
+        return mock;
+    }
+
+    /**
+     * Returns mocks registered in the current thread (and not garbage collected yet).
+     */
+    public static List<Object> registeredMocks() {
+        return Collections.unmodifiableList(threadMocks.get().liveMocks());
+    }
+
+    /**
+     * Validates Mockito usage in the current thread and resets and forgets all mocks registered in it.
+     * <p>
+     * Mocks are cleaned up even if the validation fails.
+     */
+    public static void validateAndReset() {
+        List<Object> mocks = threadMocks.get().liveMocks();
+        try {
+            Mockito.validateMockitoUsage();
+        } finally {
+            if (!mocks.isEmpty()) {
+                Mockito.reset(mocks.toArray());
+            }
+            threadMocks.remove();
+        }
+    }
+
+    private static final class ThreadMocks {
+
+        private final Set<Reference<Object>> references = new LinkedHashSet<>();   //in registration order
+        private final ReferenceQueue<Object> collectedMocks = new ReferenceQueue<>();
+
+        private void add(Object mock) {
+            Reference<?> collected;
+            while ((collected = collectedMocks.poll()) != null) {
+                references.remove(collected);
+            }
+            references.add(new WeakReference<>(mock, collectedMocks));
+        }
+
+        private List<Object> liveMocks() {
+            List<Object> mocks = new ArrayList<>(references.size());
+            for (Reference<Object> reference : references) {
+                Object mock = reference.get();
+                if (mock != null) {
+                    mocks.add(mock);
+                }
+            }
+            return mocks;
+        }
+    }
+}
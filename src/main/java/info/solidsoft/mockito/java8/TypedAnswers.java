@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.AdditionalAnswers;
+import org.mockito.Incubating;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.Answer3;
+import org.mockito.stubbing.Answer4;
+import org.mockito.stubbing.Answer5;
+import org.mockito.stubbing.VoidAnswer3;
+import org.mockito.stubbing.VoidAnswer4;
+import org.mockito.stubbing.VoidAnswer5;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Allows creating answers with lambda expressions getting typed arguments of an invocation.
+ * <p>
+ * Arguments are taken one by one with {@link org.mockito.invocation.InvocationOnMock#getArgument(int)} - without casting elements of
+ * the argument array in a test:
+ *
+ * <pre class="code"><code class="java">
+ *   given(ts.findNumberOfShipsInRangeByCriteria(any())).will(answer1((ShipSearchCriteria c) -&gt; c.getMinimumRange() &gt; 1000 ? 4 : 0));
+ *   willAnswer(answerVoid2((Integer tube, TopedoType type) -&gt; loadedTubes.put(tube, type)))
+ *       .given(ts).reloadTubeWithGivenTorpedoType(anyInt(), any());
+ * </code></pre>
+ *
+ * Variants for one and two arguments accept standard Java functional interfaces. Variants for more arguments use Mockito's
+ * (e.g. {@link Answer3}) which can throw checked exceptions.
+ */
+@Incubating
+public final class TypedAnswers {
+
+    private TypedAnswers() {
+    }
+
+    public static <A, R> Answer<R> answer1(Function<A, R> answer) {
+        return invocation -> answer.apply(invocation.getArgument(0));
+    }
+
+    public static <A, B, R> Answer<R> answer2(BiFunction<A, B, R> answer) {
+        return invocation -> answer.apply(invocation.getArgument(0), invocation.getArgument(1));
+    }
+
+    public static <A, B, C, R> Answer<R> answer3(Answer3<R, A, B, C> answer) {
+        return AdditionalAnswers.answer(answer);
+    }
+
+    public static <A, B, C, D, R> Answer<R> answer4(Answer4<R, A, B, C, D> answer) {
+        return AdditionalAnswers.answer(answer);
+    }
+
+    public static <A, B, C, D, E, R> Answer<R> answer5(Answer5<R, A, B, C, D, E> answer) {
+        return AdditionalAnswers.answer(answer);
+    }
+
+    public static <A> Answer<Void> answerVoid1(Consumer<A> answer) {
+        return invocation -> {
+            answer.accept(invocation.getArgument(0));
+            return null;
+        };
+    }
+
+    public static <A, B> Answer<Void> answerVoid2(BiConsumer<A, B> answer) {
+        return invocation -> {
+            answer.accept(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        };
+    }
+
+    public static <A, B, C> Answer<Void> answerVoid3(VoidAnswer3<A, B, C> answer) {
+        return AdditionalAnswers.answerVoid(answer);
+    }
+
+    public static <A, B, C, D> Answer<Void> answerVoid4(VoidAnswer4<A, B, C, D> answer) {
+        return AdditionalAnswers.answerVoid(answer);
+    }
+
+    public static <A, B, C, D, E> Answer<Void> answerVoid5(VoidAnswer5<A, B, C, D, E> answer) {
+        return AdditionalAnswers.answerVoid(answer);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded cache of compiled regular expressions used by {@link WithMatchers#matches(String)}.
+ * <p>
+ * Data driven tests tend to create matchers for the same expressions over and over again. The least recently used patterns are evicted
+ * above the limit. A pattern can be compiled more than once when requested concurrently - it is harmless as patterns are immutable.
+ * <p>
+ * Guarded with a lock instead of a monitor, so a virtual thread waiting for it does not pin its carrier thread.
+ */
+final class PatternCache {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    static final PatternCache SHARED = new PatternCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Map<String, Pattern> patterns;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    PatternCache(int maximumSize) {
+        this.patterns = new LeastRecentlyUsedMap(maximumSize);
+    }
+
+    Pattern compile(String regex) {
+        Pattern pattern = get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);   //outside the lock
+            put(regex, pattern);
+        }
+        return pattern;
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return patterns.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Pattern get(String regex) {
+        lock.lock();
+        try {
+            return patterns.get(regex);  //updates access order
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(String regex, Pattern pattern) {
+        lock.lock();
+        try {
+            patterns.put(regex, pattern);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class LeastRecentlyUsedMap extends LinkedHashMap<String, Pattern> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        private LeastRecentlyUsedMap(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > maximumSize;
+        }
+    }
+}
@@ -5,10 +5,15 @@
  */
 package info.solidsoft.mockito.java8.api;
 
+import info.solidsoft.mockito.java8.FutureAnswers;
+import info.solidsoft.mockito.java8.KeyedAnswer;
 import org.mockito.BDDMockito;
 import org.mockito.Incubating;
 import org.mockito.stubbing.Answer;
 
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * An entry point to Mockito stubbing/mocking API in BDD style with basic matchers.
  * <p>
@@ -124,4 +129,65 @@ public interface WithBDDMockito extends WithMockito {
     default BDDMockito.BDDStubber willCallRealMethod() {
         return BDDMockito.willCallRealMethod();
     }
+
+    /**
+     * Delegates call to {@link BDDMockito#willAnswer(Answer)} with {@link FutureAnswers#completedWith(Object)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default BDDMockito.BDDStubber willComplete(Object value) {
+        return BDDMockito.willAnswer(FutureAnswers.completedWith(value));
+    }
+
+    /**
+     * Delegates call to {@link BDDMockito#willAnswer(Answer)} with {@link FutureAnswers#completedAfter(Duration, Object)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default BDDMockito.BDDStubber willCompleteAfter(Duration delay, Object value) {
+        return BDDMockito.willAnswer(FutureAnswers.completedAfter(delay, value));
+    }
+
+    /**
+     * Delegates call to {@link BDDMockito#willAnswer(Answer)} with
+     * {@link FutureAnswers#completedAfter(Duration, Object, ScheduledExecutorService)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default BDDMockito.BDDStubber willCompleteAfter(Duration delay, Object value, ScheduledExecutorService scheduler) {
+        return BDDMockito.willAnswer(FutureAnswers.completedAfter(delay, value, scheduler));
+    }
+
+    /**
+     * Delegates call to {@link BDDMockito#willAnswer(Answer)} with {@link FutureAnswers#failedWith(Throwable)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default BDDMockito.BDDStubber willFail(Throwable failure) {
+        return BDDMockito.willAnswer(FutureAnswers.failedWith(failure));
+    }
+
+    /**
+     * Delegates call to {@link KeyedAnswer#byPredicates()}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <T> KeyedAnswer.Builder<T, Void> answerByPredicates() {
+        return KeyedAnswer.byPredicates();
+    }
+
+    /**
+     * Delegates call to {@link KeyedAnswer#byPredicates(int)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <T> KeyedAnswer.Builder<T, Void> answerByPredicates(int argumentIndex) {
+        return KeyedAnswer.byPredicates(argumentIndex);
+    }
 }
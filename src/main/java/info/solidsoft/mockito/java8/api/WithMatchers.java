@@ -7,11 +7,13 @@ package info.solidsoft.mockito.java8.api;
 
 import org.mockito.ArgumentMatcher;
 import org.mockito.ArgumentMatchers;
+import org.mockito.Incubating;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * An internal interface being an entry point to Mockito basic matchers.
@@ -358,9 +360,21 @@ interface WithMatchers {
 
     /**
      * Delegates call to {@link ArgumentMatchers#matches(String)}.
+     * <p>
+     * Compiled patterns are cached (a bounded number of the recently used), so the same expression is not compiled for every matcher.
      */
     default String matches(String regex) {
-        return ArgumentMatchers.matches(regex);
+        return ArgumentMatchers.matches(PatternCache.SHARED.compile(regex));
+    }
+
+    /**
+     * Delegates call to {@link ArgumentMatchers#matches(Pattern)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default String matches(Pattern pattern) {
+        return ArgumentMatchers.matches(pattern);
     }
 
     /**
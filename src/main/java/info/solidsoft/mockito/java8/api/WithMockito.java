@@ -5,18 +5,36 @@
  */
 package info.solidsoft.mockito.java8.api;
 
+import info.solidsoft.mockito.java8.AsyncVerification;
+import info.solidsoft.mockito.java8.MockPool;
+import info.solidsoft.mockito.java8.NotifyingAfter;
+import info.solidsoft.mockito.java8.NotifyingTimeout;
+import info.solidsoft.mockito.java8.TypedAnswers;
 import org.mockito.InOrder;
 import org.mockito.Incubating;
 import org.mockito.MockSettings;
 import org.mockito.MockingDetails;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.Answer3;
+import org.mockito.stubbing.Answer4;
+import org.mockito.stubbing.Answer5;
 import org.mockito.stubbing.OngoingStubbing;
 import org.mockito.stubbing.Stubber;
+import org.mockito.stubbing.VoidAnswer3;
+import org.mockito.stubbing.VoidAnswer4;
+import org.mockito.stubbing.VoidAnswer5;
 import org.mockito.verification.VerificationAfterDelay;
 import org.mockito.verification.VerificationMode;
 import org.mockito.verification.VerificationWithTimeout;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 /**
  * An entry point to classic Mockito stubbing/mocking API with basic matchers.
  * <p>
@@ -86,6 +104,26 @@ public interface WithMockito extends WithMatchers {
         return Mockito.mock(classToMock, name);
     }
 
+    /**
+     * Delegates call to {@link MockPool#pooledMock(Class)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <T> T pooledMock(Class<T> classToMock) {
+        return MockPool.pooledMock(classToMock);
+    }
+
+    /**
+     * Delegates call to {@link MockPool#releasePooledMocks()}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default void releasePooledMocks() {
+        MockPool.releasePooledMocks();
+    }
+
     /**
      * Delegates call to {@link Mockito#mockingDetails(Object)}.
      */
@@ -192,6 +230,106 @@ public interface WithMockito extends WithMatchers {
         return Mockito.doAnswer(answer);
     }
 
+    /**
+     * Delegates call to {@link TypedAnswers#answer1(Function)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A, R> Answer<R> answer1(Function<A, R> answer) {
+        return TypedAnswers.answer1(answer);
+    }
+
+    /**
+     * Delegates call to {@link TypedAnswers#answer2(BiFunction)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A, B, R> Answer<R> answer2(BiFunction<A, B, R> answer) {
+        return TypedAnswers.answer2(answer);
+    }
+
+    /**
+     * Delegates call to {@link TypedAnswers#answer3(Answer3)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A, B, C, R> Answer<R> answer3(Answer3<R, A, B, C> answer) {
+        return TypedAnswers.answer3(answer);
+    }
+
+    /**
+     * Delegates call to {@link TypedAnswers#answer4(Answer4)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A, B, C, D, R> Answer<R> answer4(Answer4<R, A, B, C, D> answer) {
+        return TypedAnswers.answer4(answer);
+    }
+
+    /**
+     * Delegates call to {@link TypedAnswers#answer5(Answer5)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A, B, C, D, E, R> Answer<R> answer5(Answer5<R, A, B, C, D, E> answer) {
+        return TypedAnswers.answer5(answer);
+    }
+
+    /**
+     * Delegates call to {@link TypedAnswers#answerVoid1(Consumer)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A> Answer<Void> answerVoid1(Consumer<A> answer) {
+        return TypedAnswers.answerVoid1(answer);
+    }
+
+    /**
+     * Delegates call to {@link TypedAnswers#answerVoid2(BiConsumer)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A, B> Answer<Void> answerVoid2(BiConsumer<A, B> answer) {
+        return TypedAnswers.answerVoid2(answer);
+    }
+
+    /**
+     * Delegates call to {@link TypedAnswers#answerVoid3(VoidAnswer3)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A, B, C> Answer<Void> answerVoid3(VoidAnswer3<A, B, C> answer) {
+        return TypedAnswers.answerVoid3(answer);
+    }
+
+    /**
+     * Delegates call to {@link TypedAnswers#answerVoid4(VoidAnswer4)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A, B, C, D> Answer<Void> answerVoid4(VoidAnswer4<A, B, C, D> answer) {
+        return TypedAnswers.answerVoid4(answer);
+    }
+
+    /**
+     * Delegates call to {@link TypedAnswers#answerVoid5(VoidAnswer5)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <A, B, C, D, E> Answer<Void> answerVoid5(VoidAnswer5<A, B, C, D, E> answer) {
+        return TypedAnswers.answerVoid5(answer);
+    }
+
     /**
      * Delegates call to {@link Mockito#doNothing()}.
      */
@@ -283,6 +421,36 @@ public interface WithMockito extends WithMatchers {
         return Mockito.timeout(millis);
     }
 
+    /**
+     * Delegates call to {@link NotifyingTimeout#notifyingTimeout(long)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default NotifyingTimeout notifyingTimeout(long millis) {
+        return NotifyingTimeout.notifyingTimeout(millis);
+    }
+
+    /**
+     * Delegates call to {@link AsyncVerification#verifyEventually(Object, Duration, Consumer)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <T> CompletableFuture<Void> verifyEventually(T mock, Duration timeout, Consumer<T> methodCall) {
+        return AsyncVerification.verifyEventually(mock, timeout, methodCall);
+    }
+
+    /**
+     * Delegates call to {@link AsyncVerification#verifyEventually(Object, VerificationMode, Duration, Consumer)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default <T> CompletableFuture<Void> verifyEventually(T mock, VerificationMode mode, Duration timeout, Consumer<T> methodCall) {
+        return AsyncVerification.verifyEventually(mock, mode, timeout, methodCall);
+    }
+
     /**
      * Delegates call to {@link Mockito#after(long)}.
      */
@@ -290,6 +458,16 @@ public interface WithMockito extends WithMatchers {
         return Mockito.after(millis);
     }
 
+    /**
+     * Delegates call to {@link NotifyingAfter#notifyingAfter(long)}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default NotifyingAfter notifyingAfter(long millis) {
+        return NotifyingAfter.notifyingAfter(millis);
+    }
+
     /**
      * Delegates call to {@link Mockito#validateMockitoUsage()}.
      */
@@ -304,6 +482,16 @@ public interface WithMockito extends WithMatchers {
         return Mockito.withSettings();
     }
 
+    /**
+     * Delegates call to {@link NotifyingTimeout#withInvocationNotifications()}.
+     *
+     * @since 2.6.0
+     */
+    @Incubating
+    default MockSettings withInvocationNotifications() {
+        return NotifyingTimeout.withInvocationNotifications();
+    }
+
     /**
      * Delegates call to {@link Mockito#description(String)}.
      *
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8.api;
+
+import info.solidsoft.mockito.java8.ThreadMockRegistry;
+import org.mockito.Incubating;
+import org.mockito.MockSettings;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+/**
+ * A variant of {@link WithMockito} for tests executed in parallel - {@link #validateAndResetThreadMocks()} has to be called after each
+ * test (e.g. in an {@literal @}AfterEach method).
+ * <p>
+ * Mocks and spies created with the interface methods are registered in {@link ThreadMockRegistry} of the executing thread.
+ * After a test {@link #validateAndResetThreadMocks()} validates Mockito usage and resets the mocks in the same thread - a misuse
+ * (e.g. an unfinished stubbing) is reported by the test which caused it, not by a random test executed later in that thread.
+ * Mocks are registered with weak references, so without that call a misuse is reported late, but mocks are not leaked:
+ *
+ * <pre class="code"><code class="java">
+ * {@literal @}Execution(ExecutionMode.CONCURRENT)
+ * class ShopTest implements WithBDDMockito, WithParallelMockito {
+ *
+ *   private Seller seller = mock(Seller.class);
+ *
+ *   {@literal @}AfterEach
+ *   void cleanUpMocks() {
+ *     validateAndResetThreadMocks();
+ *   }
+ * }
+ * </code></pre>
+ *
+ * It can be freely combined with {@link WithBDDMockito} and {@link WithAdditionalMatchers}.
+ *
+ * @see WithMockito
+ * @see ThreadMockRegistry
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public interface WithParallelMockito extends WithMockito {
+
+    /**
+     * Delegates call to {@link Mockito#mock(Class)} and registers created mock in the current thread.
+     */
+    @Override
+    default <T> T mock(Class<T> classToMock) {
+        return ThreadMockRegistry.register(Mockito.mock(classToMock));
+    }
+
+    /**
+     * Delegates call to {@link Mockito#mock(Class, String)} and registers created mock in the current thread.
+     */
+    @Override
+    default <T> T mock(Class<T> classToMock, String name) {
+        return ThreadMockRegistry.register(Mockito.mock(classToMock, name));
+    }
+
+    /**
+     * Delegates call to {@link Mockito#mock(Class, Answer)} and registers created mock in the current thread.
+     */
+    @Override
+    default <T> T mock(Class<T> classToMock, Answer defaultAnswer) {
+        return ThreadMockRegistry.register(Mockito.mock(classToMock, defaultAnswer));
+    }
+
+    /**
+     * Delegates call to {@link Mockito#mock(Class, MockSettings)} and registers created mock in the current thread.
+     */
+    @Override
+    default <T> T mock(Class<T> classToMock, MockSettings mockSettings) {
+        return ThreadMockRegistry.register(Mockito.mock(classToMock, mockSettings));
+    }
+
+    /**
+     * Delegates call to {@link Mockito#spy(Object)} and registers created spy in the current thread.
+     */
+    @Override
+    default <T> T spy(T object) {
+        return ThreadMockRegistry.register(Mockito.spy(object));
+    }
+
+    /**
+     * Delegates call to {@link Mockito#spy(Class)} and registers created spy in the current thread.
+     */
+    @Override
+    default <T> T spy(Class<T> classToSpy) {
+        return ThreadMockRegistry.register(Mockito.spy(classToSpy));
+    }
+
+    /**
+     * Delegates call to {@link ThreadMockRegistry#validateAndReset()}.
+     */
+    default void validateAndResetThreadMocks() {
+        ThreadMockRegistry.validateAndReset();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertAllArgs;
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+import static info.solidsoft.mockito.java8.domain.TopedoType.PHOTON;
+import static info.solidsoft.mockito.java8.domain.TopedoType.PLASMA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AllInvocationsAssertionTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    @Test
+    void shouldPassIfAllInvocationsSatisfyAssertion() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 4));
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //then
+        assertAllArgs(ts, t -> t.findNumberOfShipsInRangeByCriteria(assertArg(sc -> assertThat(sc.getMinimumRange()).isLessThan(2000))));
+    }
+
+    @Test
+    void shouldReportAllFailedAssertionsTogether() {
+        //when
+        ts.fireTorpedo(1);
+        ts.fireTorpedo(5);
+        ts.fireTorpedo(7);
+        //then
+        assertThatThrownBy(() -> assertAllArgs(ts, t -> t.fireTorpedo(assertArg(i -> assertThat(i).isLessThan(3)))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("2 failed assertion(s) in 3 invocation(s) of ts.fireTorpedo()")
+                .hasMessageContaining("1) ts.fireTorpedo(5);")
+                .hasMessageContaining("Expecting:\n <5>\nto be less than:\n <3>")
+                .hasMessageContaining("2) ts.fireTorpedo(7);")
+                .hasMessageContaining("Expecting:\n <7>\nto be less than:\n <3>")
+                .satisfies(e -> assertThat(e.getMessage()).doesNotContain("fireTorpedo(1)"));
+    }
+
+    @Test
+    void shouldAssertOnlyInvocationsMatchedByOtherMatchers() {
+        //when
+        ts.reloadTubeWithGivenTorpedoType(1, PLASMA);
+        ts.reloadTubeWithGivenTorpedoType(2, PHOTON);
+        ts.reloadTubeWithGivenTorpedoType(2, PHOTON);
+        //then
+        assertAllArgs(ts, t -> t.reloadTubeWithGivenTorpedoType(eq(2), assertArg(type -> assertThat(type).isEqualTo(PHOTON))));
+    }
+
+    @Test
+    void shouldFailIfMethodWasNotInvoked() {
+        //when
+        ts.fireTorpedo(1);
+        //then
+        assertThatThrownBy(() -> assertAllArgs(ts, t -> t.findNumberOfShipsInRangeByCriteria(assertArg(sc -> assertThat(sc).isNotNull()))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Wanted but not invoked:\nts.findNumberOfShipsInRangeByCriteria()");
+    }
+
+    @Test
+    void shouldMarkAssertedInvocationsAsVerified() {
+        //when
+        ts.fireTorpedo(1);
+        ts.fireTorpedo(2);
+        //then
+        assertAllArgs(ts, t -> t.fireTorpedo(assertArg(i -> assertThat(i).isPositive())));
+        verifyNoMoreInteractions(ts);
+    }
+
+    @Test
+    void shouldReportFailedAssertionsWithVarargsMatchedByOneMatcher() {
+        //when
+        ts.reportDamage(1, "shields", "phasers");
+        ts.reportDamage(5, "engines", "sensors");
+        //then
+        assertThatThrownBy(() -> assertAllArgs(ts, t -> t.reportDamage(assertArg((Integer deck) -> assertThat(deck).isLessThan(3)), any())))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("1 failed assertion(s) in 2 invocation(s) of ts.reportDamage()")
+                .hasMessageContaining("1) ts.reportDamage(5, \"engines\", \"sensors\");")
+                .hasMessageContaining("Expecting:\n <5>\nto be less than:\n <3>");
+    }
+}
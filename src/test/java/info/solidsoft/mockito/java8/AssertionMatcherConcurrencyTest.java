@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.mockito.internal.matchers.LocalizedMatcher;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.internal.progress.ThreadSafeMockingProgress.mockingProgress;
+
+class AssertionMatcherConcurrencyTest {
+
+    private static final int NUMBER_OF_THREADS = 8;
+
+    @Test
+    void shouldReportFailureFromEvaluationOnReportingThread() throws Exception {
+        //given
+        assertArg((String s) -> assertThat(s).startsWith("ok"));
+        ArgumentMatcher<String> matcher = pullSingleMatcher();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        //when
+        try {
+            assertThat(matcher.matches("failing-on-reporting-thread")).isFalse();
+            assertThat(executor.submit(() -> matcher.matches("failing-on-other-thread")).get(5, TimeUnit.SECONDS)).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+        //then
+        assertThat(matcher.toString()).contains("failing-on-reporting-thread").doesNotContain("failing-on-other-thread");
+    }
+
+    @Test
+    void shouldReportFailureFromOtherThreadIfNotEvaluatedOnReportingThread() throws Exception {
+        //given
+        assertArg((String s) -> assertThat(s).startsWith("ok"));
+        ArgumentMatcher<String> matcher = pullSingleMatcher();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        //when
+        try {
+            executor.submit(() -> matcher.matches("failing-on-other-thread")).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        //then
+        assertThat(matcher.toString()).contains("failing-on-other-thread");
+    }
+
+    @Test
+    void shouldVerifyWithTimeoutWhileMockIsInvokedFromOtherThreads() throws Exception {
+        //given
+        TacticalStation ts = mock(TacticalStation.class);
+        ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        //when
+        try {
+            for (int t = 0; t < NUMBER_OF_THREADS; t++) {
+                int tubeNumber = t;
+                executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        ts.fireTorpedo(tubeNumber);
+                    }
+                });
+            }
+            //then
+            verify(ts, timeout(5000).times(100)).fireTorpedo(assertArg(i -> assertThat(i).isEqualTo(NUMBER_OF_THREADS - 1)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ArgumentMatcher<T> pullSingleMatcher() {
+        List<LocalizedMatcher> matchers = mockingProgress().getArgumentMatcherStorage().pullLocalizedMatchers();
+        assertThat(matchers).hasSize(1);
+        return (ArgumentMatcher<T>) matchers.get(0).getMatcher();
+    }
+}
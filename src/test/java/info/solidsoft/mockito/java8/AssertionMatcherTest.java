@@ -56,6 +56,19 @@ class AssertionMatcherTest {
         verify(ts).fireTorpedo(assertArg(i -> assertThat(i).isEqualTo(2)));
     }
 
+    @Test
+    void shouldAllowToUseAssertionInLambdaWithExplicitArgumentType() {
+        //given
+        long resolvedReturnValues = AssertionMatcher.returnValueCacheStatistics().requestCount();
+        //when
+        ts.fireTorpedo(2);
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        //then
+        verify(ts).fireTorpedo(assertArg(int.class, i -> assertThat(i).isEqualTo(2)));
+        verify(ts).findNumberOfShipsInRangeByCriteria(assertArg(ShipSearchCriteria.class, sc -> assertThat(sc.getMinimumRange()).isLessThan(2000)));
+        assertThat(AssertionMatcher.returnValueCacheStatistics().requestCount()).isEqualTo(resolvedReturnValues);
+    }
+
     @Test
     void shouldHaveMeaningfulErrorMessage() {
         //when
@@ -107,6 +120,29 @@ class AssertionMatcherTest {
                 .isInstanceOf(IOException.class);
     }
 
+    @Test
+    void shouldAcceptLambdaWhichMayThrowCheckedExceptionWithExplicitArgumentType() {
+        //when
+        ts.fireTorpedo(2);
+        //then
+        verify(ts).fireTorpedo(assertArgThrowing(int.class, i -> methodDeclaringThrowingCheckedException(i)));
+    }
+
+    @Test
+    void shouldReportMessageOfArgumentMismatchWithoutStackTrace() {
+        //given
+        ArgumentMismatch mismatch = new ArgumentMismatch("Unexpected tube: 1");
+        //when
+        ts.fireTorpedo(1);
+        //then
+        assertThat(mismatch.getStackTrace()).isEmpty();
+        assertThatThrownBy(() -> verify(ts).fireTorpedo(assertArg((Integer i) -> {
+            throw mismatch;
+        })))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("AssertionMatcher reported: Unexpected tube: 1");
+    }
+
     private void methodDeclaringThrowingCheckedException(int i) throws Exception {
         assertThat(i).isEqualTo(2);
     }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.verification.WantedButNotInvoked;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.AsyncVerification.verifyEventually;
+import static info.solidsoft.mockito.java8.LambdaMatcher.intArgLambda;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class AsyncVerificationTest {
+
+    private final TacticalStation ts = mock(TacticalStation.class);
+
+    @Test
+    void shouldCompleteWhenMockIsInvokedLater() {
+        //given
+        CompletableFuture<Void> verification = verifyEventually(ts, Duration.ofSeconds(5), t -> t.fireTorpedo(2));
+        //when
+        CompletableFuture.runAsync(() -> ts.fireTorpedo(2));
+        //then
+        verification.join();
+    }
+
+    @Test
+    void shouldAllowToUseMatchersAndVerificationMode() {
+        //given
+        ts.fireTorpedo(1);
+        ts.fireTorpedo(3);
+        //expect
+        verifyEventually(ts, times(2), Duration.ofSeconds(5), t -> t.fireTorpedo(intArgLambda(i -> i % 2 == 1))).join();
+    }
+
+    @Test
+    void shouldFailWithLastVerificationFailureAfterTimeout() {
+        //when
+        CompletableFuture<Void> verification = verifyEventually(ts, Duration.ofMillis(50), t -> t.fireTorpedo(anyInt()));
+        //then
+        assertThatThrownBy(verification::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(WantedButNotInvoked.class);
+    }
+
+    @Test
+    void shouldNotBlockCallingThread() {
+        //when
+        CompletableFuture<Void> verification = verifyEventually(ts, Duration.ofSeconds(5), t -> t.fireTorpedo(2));
+        //then
+        assertThat(verification).isNotDone();
+        ts.fireTorpedo(2);
+        verification.join();
+    }
+
+    @Test
+    void shouldReportExceptionThrownInLambdaAndAllowFurtherVerifications() {
+        //given
+        ts.fireTorpedo(2);
+        //when
+        CompletableFuture<Void> verification = verifyEventually(ts, Duration.ofSeconds(5), t -> {
+            throw new IllegalStateException("Broken verification");
+        });
+        //then
+        assertThatThrownBy(verification::join).hasCauseInstanceOf(IllegalStateException.class);
+        verifyEventually(ts, Duration.ofSeconds(5), t -> t.fireTorpedo(2)).join();
+    }
+
+    @Test
+    void shouldReportErrorThrownInLambda() {
+        //when
+        CompletableFuture<Void> verification = verifyEventually(ts, Duration.ofSeconds(5), t -> {
+            throw new LinkageError("Misconfigured mock");
+        });
+        //then
+        assertThatThrownBy(() -> verification.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(LinkageError.class);
+    }
+}
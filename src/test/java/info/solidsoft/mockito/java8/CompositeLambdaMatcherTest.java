@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static info.solidsoft.mockito.java8.CompositeLambdaMatcher.Mode.ALL_OF;
+import static info.solidsoft.mockito.java8.CompositeLambdaMatcher.Mode.ANY_OF;
+import static info.solidsoft.mockito.java8.CompositeLambdaMatcher.Mode.NONE_OF;
+import static info.solidsoft.mockito.java8.LambdaMatcher.lambda;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompositeLambdaMatcherTest {
+
+    @Test
+    void shouldCombineMatchersResults() {
+        //given
+        CompositeLambdaMatcher<Integer> allOf = composite(ALL_OF, lambda(i -> i > 0), lambda(i -> i < 10));
+        CompositeLambdaMatcher<Integer> anyOf = composite(ANY_OF, lambda(i -> i < 0), lambda(i -> i > 10));
+        CompositeLambdaMatcher<Integer> noneOf = composite(NONE_OF, lambda(i -> i < 0), lambda(i -> i > 10));
+        //expect
+        assertThat(allOf.matches(5)).isTrue();
+        assertThat(allOf.matches(15)).isFalse();
+        assertThat(anyOf.matches(15)).isTrue();
+        assertThat(anyOf.matches(5)).isFalse();
+        assertThat(noneOf.matches(5)).isTrue();
+        assertThat(noneOf.matches(-5)).isFalse();
+    }
+
+    @Test
+    void shouldStopOnFirstDecidingMatcher() {
+        //given
+        AtomicInteger secondMatcherEvaluations = new AtomicInteger();
+        CompositeLambdaMatcher<Integer> allOf = composite(ALL_OF, lambda(i -> i > 0),
+                lambda(i -> secondMatcherEvaluations.incrementAndGet() > 0));
+        //when
+        allOf.matches(-1);
+        //then
+        assertThat(secondMatcherEvaluations.get()).isZero();
+    }
+
+    @Test
+    void shouldEvaluateMostOftenDecidingMatcherFirst() {
+        //given
+        AtomicInteger rarelyRejectingEvaluations = new AtomicInteger();
+        CompositeLambdaMatcher<Integer> allOf = composite(ALL_OF,
+                lambda(i -> rarelyRejectingEvaluations.incrementAndGet() > 0),
+                lambda(i -> i % 10 == 0));
+        //when
+        for (int i = 1; i <= 10 * AdaptiveOrder.SAMPLING_INTERVAL; i++) {
+            allOf.matches(i);
+        }
+        //then
+        assertThat(allOf.evaluationOrder()).containsExactly(1, 0);
+        assertThat(rarelyRejectingEvaluations.get()).isLessThan(2 * AdaptiveOrder.SAMPLING_INTERVAL);
+    }
+
+    @Test
+    void shouldEvaluateCheaperMatcherFirstWithEqualDecisionRates() {
+        //given
+        CompositeLambdaMatcher<Integer> allOf = composite(ALL_OF,
+                lambda(i -> spinFor(MICROSECONDS.toNanos(20)) && (i & 1) == 0),
+                lambda(i -> (i & 2) == 0));
+        //when
+        for (int i = 1; i <= 4 * AdaptiveOrder.SAMPLING_INTERVAL; i++) {
+            allOf.matches(i);
+        }
+        //then
+        assertThat(allOf.evaluationOrder()).containsExactly(1, 0);
+    }
+
+    @Test
+    void shouldPinGuardWhenMatcherReorderedAheadOfItThrows() {
+        //given
+        CompositeLambdaMatcher<String> allOf = composite(ALL_OF, lambda(s -> s != null), lambda(s -> s.length() > 3));
+        for (int i = 0; i < 4 * AdaptiveOrder.SAMPLING_INTERVAL; i++) {
+            allOf.matches("abc");
+        }
+        //when
+        boolean nullMatched = allOf.matches(null);
+        //then
+        assertThat(nullMatched).isFalse();
+        assertThat(allOf.evaluationOrder()).containsExactly(0, 1);
+        assertThat(allOf.matches("abcd")).isTrue();
+    }
+
+    @Test
+    void shouldPropagateExceptionThrownInDeclaredOrder() {
+        //given
+        CompositeLambdaMatcher<String> allOf = composite(ALL_OF, lambda(s -> s.length() > 3), lambda(s -> s.startsWith("a")));
+        //expect
+        assertThatThrownBy(() -> allOf.matches(null)).hasCauseInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldCombineDescriptions() {
+        //given
+        CompositeLambdaMatcher<Integer> allOf = composite(ALL_OF, lambda(i -> i > 0, "positive"), lambda(i -> i < 10, "less than 10"));
+        //expect
+        assertThat(allOf).hasToString("allOf(positive, less than 10)");
+    }
+
+    @Test
+    void shouldRequireAtLeastOneMatcher() {
+        //expect
+        assertThatThrownBy(() -> composite(ANY_OF)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean spinFor(long nanos) {
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < nanos) {
+            //busy wait - an expensive lambda
+        }
+        return true;
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")   //the array is only copied
+    private static <T> CompositeLambdaMatcher<T> composite(CompositeLambdaMatcher.Mode mode, ArgumentMatcher<T>... matchers) {
+        return new CompositeLambdaMatcher<>(mode, Arrays.asList(matchers));
+    }
+}
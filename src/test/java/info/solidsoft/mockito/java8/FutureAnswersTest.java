@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static info.solidsoft.mockito.java8.FutureAnswers.completedAfter;
+import static info.solidsoft.mockito.java8.FutureAnswers.completedWith;
+import static info.solidsoft.mockito.java8.FutureAnswers.failedWith;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class FutureAnswersTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    @Test
+    void shouldReturnCompletedFuture() {
+        //given
+        given(ts.scanForEnemyShipsAsync(1000)).willAnswer(completedWith(3));
+        //expect
+        assertThat(ts.scanForEnemyShipsAsync(1000)).isCompletedWithValue(3);
+    }
+
+    @Test
+    void shouldReturnNewDelayedFutureForEveryInvocation() {
+        //given
+        given(ts.scanForEnemyShipsAsync(1000)).willAnswer(completedAfter(Duration.ofMillis(50), 3));
+        //when
+        CompletableFuture<Integer> first = ts.scanForEnemyShipsAsync(1000);
+        CompletableFuture<Integer> second = ts.scanForEnemyShipsAsync(1000);
+        //then
+        assertThat(first).isNotSameAs(second).isNotDone();
+        assertThat(CompletableFuture.allOf(first, second).thenApply(v -> first.join() + second.join()).join()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldCompleteDelayedFutureWithGivenScheduler() {
+        //given
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "test-scheduler"));
+        given(ts.scanForEnemyShipsAsync(1000)).willAnswer(completedAfter(Duration.ofMillis(10), 3, scheduler));
+        //when
+        String completingThread = ts.scanForEnemyShipsAsync(1000).thenApply(ships -> Thread.currentThread().getName()).join();
+        //then
+        assertThat(completingThread).isEqualTo("test-scheduler");
+        scheduler.shutdown();
+    }
+
+    @Test
+    void shouldReturnFailedFuture() {
+        //given
+        given(ts.scanForEnemyShipsAsync(1000)).willAnswer(failedWith(new IllegalStateException("Sensors offline")));
+        //expect
+        assertThat(ts.scanForEnemyShipsAsync(1000)).hasFailedWithThrowableThat()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Sensors offline");
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static info.solidsoft.mockito.java8.domain.TacticalStation.TubeStatus.BROKEN;
+import static info.solidsoft.mockito.java8.domain.TacticalStation.TubeStatus.EMPTY;
+import static info.solidsoft.mockito.java8.domain.TacticalStation.TubeStatus.LOADED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class KeyedAnswerTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    @Test
+    void shouldAnswerWithValueStubbedForKey() {
+        //given
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(KeyedAnswer.keyedBy(ShipSearchCriteria::getMinimumRange)
+                .when(1000, 4)
+                .when(1500, 5)
+                .build());
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 2))).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2))).isEqualTo(5);
+    }
+
+    @Test
+    void shouldUseLastMatchingStubbingForKey() {
+        //given
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(KeyedAnswer.keyedBy(ShipSearchCriteria::getMinimumRange)
+                .when(1000, 4)
+                .when(1000, c -> c.getNumberOfPhasers() > 2, 7)
+                .when(1000, c -> c.getNumberOfPhasers() > 5, 9)
+                .build());
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 1))).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 3))).isEqualTo(7);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 6))).isEqualTo(9);
+    }
+
+    @Test
+    void shouldNotEvaluateLambdasStubbedForOtherKeys() {
+        //given
+        AtomicInteger evaluations = new AtomicInteger();
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(KeyedAnswer.keyedBy(ShipSearchCriteria::getMinimumRange)
+                .when(1000, c -> evaluations.incrementAndGet() > 0, 4)
+                .when(1500, 5)
+                .build());
+        //when
+        int numberOfShips = ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //then
+        assertThat(numberOfShips).isEqualTo(5);
+        assertThat(evaluations).hasValue(0);
+    }
+
+    @Test
+    void shouldUseDefaultAnswerForNotStubbedKeyAndNullArgument() {
+        //given
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(KeyedAnswer.keyedBy(ShipSearchCriteria::getMinimumRange)
+                .when(1000, 4)
+                .build());
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2))).isZero();
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(null)).isZero();
+    }
+
+    @Test
+    void shouldUseConfiguredFallbackAnswer() {
+        //given
+        given(ts.getTubeStatus(anyInt())).willAnswer(KeyedAnswer.keyedBy((Integer tubeNumber) -> tubeNumber % 2)
+                .when(0, LOADED)
+                .when(1, tubeNumber -> tubeNumber > 10, EMPTY)
+                .otherwise(invocation -> BROKEN)
+                .build());
+        //expect
+        assertThat(ts.getTubeStatus(2)).isEqualTo(LOADED);
+        assertThat(ts.getTubeStatus(11)).isEqualTo(EMPTY);
+        assertThat(ts.getTubeStatus(3)).isEqualTo(BROKEN);
+    }
+
+    @Test
+    void shouldAnswerWithValuesFromTable() {
+        //given
+        Map<Integer, Integer> shipsByRange = new HashMap<>();
+        for (int range = 0; range < 500; range++) {
+            shipsByRange.put(range * 10, range);
+        }
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(KeyedAnswer.fromTable(ShipSearchCriteria::getMinimumRange, shipsByRange));
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(4990, 2))).isEqualTo(499);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(4995, 2))).isEqualTo(0);
+    }
+
+    @Test
+    void shouldFallBackToKeylessStubbingsWhenThereIsNoMatchingKey() {
+        //given
+        Map<Integer, Integer> shipsByRange = new HashMap<>();
+        shipsByRange.put(1000, 4);
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(KeyedAnswer.keyedBy(ShipSearchCriteria::getMinimumRange)
+                .whenAll(shipsByRange)
+                .whenMatching(c -> c.getMinimumRange() > 500, 1)
+                .whenMatching(c -> c.getMinimumRange() > 5000, 2)
+                .build());
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 2))).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1200, 2))).isEqualTo(1);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(6000, 2))).isEqualTo(2);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(100, 2))).isEqualTo(0);
+    }
+
+    @Test
+    void shouldAnswerWithKeylessStubbingsOnly() {
+        //given
+        given(ts.getTubeStatus(anyInt())).willAnswer(KeyedAnswer.<Integer>byPredicates(0)
+                .whenMatching(tube -> tube < 3, LOADED)
+                .whenMatching(tube -> tube == 0, BROKEN)
+                .build());
+        //expect
+        assertThat(ts.getTubeStatus(0)).isEqualTo(BROKEN);
+        assertThat(ts.getTubeStatus(2)).isEqualTo(LOADED);
+        assertThat(ts.getTubeStatus(5)).isNull();
+    }
+
+    @Test
+    void shouldEvaluateFrequentlyMatchingDisjointKeylessStubbingFirst() {
+        //given
+        AtomicInteger rarelyMatchingEvaluations = new AtomicInteger();
+        KeyedAnswer<ShipSearchCriteria, Void> answer = KeyedAnswer.<ShipSearchCriteria>byPredicates()
+                .whenMatching(c -> c.getMinimumRange() < 1000, 2)
+                .whenMatching(c -> rarelyMatchingEvaluations.incrementAndGet() > 0 && c.getMinimumRange() > 5000, 9)
+                .whenMatching(c -> c.getMinimumRange() >= 1000 && c.getMinimumRange() <= 5000, 5)
+                .disjoint()
+                .build();
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(answer);
+        //when
+        for (int i = 0; i < 10 * AdaptiveOrder.SAMPLING_INTERVAL; i++) {
+            assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(500, 1))).isEqualTo(2);
+        }
+        //then
+        assertThat(answer.keylessEvaluationOrder()[0]).isZero();
+        assertThat(rarelyMatchingEvaluations.get()).isLessThan(2 * AdaptiveOrder.SAMPLING_INTERVAL);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(9000, 1))).isEqualTo(9);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(2000, 1))).isEqualTo(5);
+    }
+
+    @Test
+    void shouldKeepReverseDeclarationOrderWithoutDisjointDeclaration() {
+        //given
+        AtomicInteger lastStubbingEvaluations = new AtomicInteger();
+        KeyedAnswer<ShipSearchCriteria, Void> answer = KeyedAnswer.<ShipSearchCriteria>byPredicates()
+                .whenMatching(c -> c.getMinimumRange() < 1000, 2)
+                .whenMatching(c -> lastStubbingEvaluations.incrementAndGet() > 0 && c.getMinimumRange() > 5000, 9)
+                .build();
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(answer);
+        //when
+        for (int i = 0; i < 2 * AdaptiveOrder.SAMPLING_INTERVAL; i++) {
+            ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(500, 1));
+        }
+        //then
+        assertThat(answer.keylessEvaluationOrder()).containsExactly(1, 0);
+        assertThat(lastStubbingEvaluations.get()).isEqualTo(2 * AdaptiveOrder.SAMPLING_INTERVAL);
+    }
+
+    @Test
+    void shouldFailWhenKeylessStubbingsDeclaredAsDisjointOverlap() {
+        //given
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(KeyedAnswer.<ShipSearchCriteria>byPredicates()
+                .whenMatching(c -> c.getMinimumRange() > 1000, 4)
+                .whenMatching(c -> c.getNumberOfPhasers() > 2, 7)
+                .disjoint()
+                .build());
+        //expect
+        assertThatThrownBy(() -> ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 3)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Key-less stubbings 0 and 1 declared as disjoint both match argument");
+    }
+
+    @Test
+    void shouldNotAllowKeyedStubbingWithoutKeyExtractor() {
+        //expect
+        assertThatThrownBy(() -> KeyedAnswer.<Integer>byPredicates(0).when(null, LOADED))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LambdaAwareHandyReturnValuesTest {
+
+    private final LambdaAwareHandyReturnValues handyReturnValues = new LambdaAwareHandyReturnValues();
+
+    @Test
+    void shouldReturnDefaultValueForPrimitiveArgument() {
+        //given
+        Consumer<Integer> consumer = i -> { };
+        //expect
+        assertThat((Integer) handyReturnValues.returnForConsumerLambda(consumer)).isZero();
+    }
+
+    @Test
+    void shouldReturnNullForObjectArgument() {
+        //given
+        Consumer<ShipSearchCriteria> consumer = c -> { };
+        //expect
+        assertThat((ShipSearchCriteria) handyReturnValues.returnForConsumerLambda(consumer)).isNull();
+    }
+
+    @Test
+    void shouldResolveReturnValueOnlyOncePerLambdaClass() {
+        //when
+        for (int i = 0; i < 3; i++) {
+            handyReturnValues.returnForConsumerLambda((Consumer<Long>) l -> { });
+        }
+        //then
+        CacheStatistics statistics = handyReturnValues.cacheStatistics();
+        assertThat(statistics.missCount()).isEqualTo(1);
+        assertThat(statistics.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCacheConsumerAndThrowingConsumerSeparately() {
+        //when
+        Long forConsumer = handyReturnValues.returnForConsumerLambda((Consumer<Long>) l -> { });
+        Double forThrowingConsumer = handyReturnValues.returnForConsumerLambdaChecked((ThrowingConsumer<Double>) d -> { });
+        //then
+        assertThat(forConsumer).isZero();
+        assertThat(forThrowingConsumer).isZero();
+        assertThat(handyReturnValues.cacheStatistics().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnNullWithoutLambdaIntrospection() {
+        //given
+        LambdaAwareHandyReturnValues nativeImageReturnValues = new LambdaAwareHandyReturnValues(false);
+        //expect
+        assertThat((ShipSearchCriteria) nativeImageReturnValues.returnForConsumerLambda((Consumer<ShipSearchCriteria>) c -> { })).isNull();
+        assertThat(nativeImageReturnValues.returnForType(int.class)).isZero();
+    }
+}
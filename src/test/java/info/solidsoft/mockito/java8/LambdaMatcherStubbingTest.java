@@ -14,7 +14,14 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static info.solidsoft.mockito.java8.LambdaMatcher.allOf;
 import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambdaMemoized;
+import static info.solidsoft.mockito.java8.LambdaMatcher.intArgLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.lambda;
+import static info.solidsoft.mockito.java8.domain.TacticalStation.TubeStatus.LOADED;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -35,6 +42,67 @@ class LambdaMatcherStubbingTest {
         assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2))).isEqualTo(0);
     }
 
+    @Test
+    void shouldRespectNullGuardDeclaredFirstInAllOfAfterReordering() {
+        //given
+        given(ts.findNumberOfShipsInRangeByCriteria(allOf(
+                lambda((ShipSearchCriteria c) -> c != null),
+                lambda((ShipSearchCriteria c) -> c.getMinimumRange() > 1000)))).willReturn(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2))).isEqualTo(4);
+        for (int i = 0; i < 1000; i++) {
+            ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2));
+        }
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(null)).isEqualTo(0);
+    }
+
+    @Test
+    void shouldAllowToUsePrimitiveLambdaInStubbing() {
+        //given
+        given(ts.getTubeStatus(intArgLambda(i -> i > 2))).willReturn(LOADED);
+        //expect
+        assertThat(ts.getTubeStatus(3)).isEqualTo(LOADED);
+        //expect
+        assertThat(ts.getTubeStatus(1)).isNull();
+    }
+
+    @Test
+    void shouldEvaluateMemoizedLambdaOnlyOnceForGivenArgument() {
+        //given
+        AtomicInteger evaluations = new AtomicInteger();
+        ShipSearchCriteria criteria = new ShipSearchCriteria(1500, 2);
+        given(ts.findNumberOfShipsInRangeByCriteria(argLambdaMemoized(c -> evaluations.incrementAndGet() > 0 && c.getMinimumRange() > 1000)))
+                .willReturn(4);
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(criteria)).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(criteria)).isEqualTo(4);
+        //and
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void shouldNotEvaluateLambdaForArgumentWithDifferentKey() {
+        //given
+        AtomicInteger evaluations = new AtomicInteger();
+        given(ts.findNumberOfShipsInRangeByCriteria(argLambda(ShipSearchCriteria::getMinimumRange, 1000,
+                c -> evaluations.incrementAndGet() > 0 && c.getNumberOfPhasers() > 2))).willReturn(4);
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 3))).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 3))).isEqualTo(0);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(null)).isEqualTo(0);
+        //and
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void shouldNotEvaluateLambdaForArgumentOfDifferentType() {
+        //given
+        given(ts.describe(argLambda(Integer.class, i -> i > 2))).willReturn("big number");
+        //expect
+        assertThat(ts.describe(3)).isEqualTo("big number");
+        assertThat(ts.describe("not a number")).isNull();
+    }
+
     @SuppressWarnings("Convert2Lambda")
     @Test
     void stubbingWithCustomAnswerShouldBeLonger() {
@@ -15,9 +15,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+import static info.solidsoft.mockito.java8.LambdaMatcher.allOf;
+import static info.solidsoft.mockito.java8.LambdaMatcher.anyOf;
 import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
 import static info.solidsoft.mockito.java8.LambdaMatcher.argLambdaThrowing;
+import static info.solidsoft.mockito.java8.LambdaMatcher.doubleArgLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.intArgLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.lambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.longArgLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.noneOf;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -146,6 +156,25 @@ class LambdaMatcherTest {
 
     }
 
+    @Test
+    void shouldBuildDescriptionFromSupplierOnlyForErrorMessage() {
+        //given
+        AtomicInteger descriptionSupplierCalls = new AtomicInteger();
+        Supplier<String> descriptionSupplier = () -> {
+            descriptionSupplierCalls.incrementAndGet();
+            return "minimum range closer than " + 100;
+        };
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        //then
+        verify(ts).findNumberOfShipsInRangeByCriteria(argLambda(c -> c.getMinimumRange() < 2000, descriptionSupplier));
+        assertThat(descriptionSupplierCalls).hasValue(0);
+        //and
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(argLambda(c -> c.getMinimumRange() < 100, descriptionSupplier)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("minimum range closer than 100");
+    }
+
     @Test
     void shouldAcceptLambdaWhichMayThrowCheckedException() throws Exception {
         //when
@@ -171,6 +200,96 @@ class LambdaMatcherTest {
                 .hasMessage("java.io.IOException: " + UNEXPECTED_CHECKED_EXCEPTION_MESSAGE);
     }
 
+    @Test
+    void shouldAllowToUsePrimitiveLambdaInMatcher() {
+        //when
+        ts.fireTorpedo(2);
+        ts.chargePhasers(5000L);
+        ts.setShieldStrength(75.5);
+        //then
+        verify(ts).fireTorpedo(intArgLambda(i -> i == 2));
+        verify(ts).chargePhasers(longArgLambda(e -> e > 1000L));
+        verify(ts).setShieldStrength(doubleArgLambda(p -> p > 50.0));
+    }
+
+    @Test
+    void shouldKeepDescriptionOfPrimitiveLambdaInErrorMessage() {
+        //when
+        ts.chargePhasers(5000L);
+        //then
+        assertThatThrownBy(() -> verify(ts).chargePhasers(longArgLambda(e -> e < 1000L, "energy lower than 1000")))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Argument(s) are different! Wanted:\n" +
+                        "ts.chargePhasers(energy lower than 1000);");
+    }
+
+    @Test
+    void shouldTreatArgumentMismatchThrownInLambdaAsNotMatchingArgument() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(500, 2));
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //then
+        verify(ts).findNumberOfShipsInRangeByCriteria(argLambdaThrowing(c -> {
+            if (c.getMinimumRange() < 1000) {
+                throw new ArgumentMismatch("Too short range: " + c.getMinimumRange());
+            }
+            return true;
+        }));
+    }
+
+    @Test
+    void shouldTreatArgumentMismatchThrownInPrimitiveLambdaAsNotMatchingArgument() {
+        //when
+        ts.fireTorpedo(1);
+        ts.fireTorpedo(2);
+        //then
+        verify(ts).fireTorpedo(intArgLambda(i -> {
+            if (i != 2) {
+                throw new ArgumentMismatch("Unexpected tube: " + i);
+            }
+            return true;
+        }));
+    }
+
+    @Test
+    void shouldWrapOtherExceptionThrownInLambda() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(500, 2));
+        //then
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(argLambdaThrowing(c -> {
+            throw new IOException("Sensor failure");
+        })))
+                .isInstanceOf(RuntimeException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldAllowToCombineLambdasInSingleMatcher() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //then
+        verify(ts).findNumberOfShipsInRangeByCriteria(allOf(
+                lambda((ShipSearchCriteria c) -> c.getMinimumRange() > 1000, "range > 1000"),
+                anyOfPhasers(1, 2)));
+        verify(ts).findNumberOfShipsInRangeByCriteria(noneOf(lambda((ShipSearchCriteria c) -> c.getMinimumRange() < 1000)));
+    }
+
+    @Test
+    void shouldHaveCombinedDescriptionInErrorMessage() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //then
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(anyOf(
+                lambda((ShipSearchCriteria c) -> c.getMinimumRange() > 2000, "range > 2000"),
+                lambda((ShipSearchCriteria c) -> c.getNumberOfPhasers() > 5, "phasers > 5"))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("anyOf(range > 2000, phasers > 5)");
+    }
+
+    private static ArgumentMatcher<ShipSearchCriteria> anyOfPhasers(int... numbersOfPhasers) {
+        return lambda(c -> Arrays.stream(numbersOfPhasers).anyMatch(n -> n == c.getNumberOfPhasers()), "phasers in given set");
+    }
+
     @SuppressWarnings("RedundantThrows")
     private ThrowingPredicate<ShipSearchCriteria> methodDeclaringThrowingCheckedException() throws Exception {
         return c -> c.getMinimumRange() < 2000 && c.getNumberOfPhasers() > 2;
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertAllArgs;
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.intArgLambda;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MatcherMetricsTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    @AfterEach
+    void disableMetrics() {
+        MatcherMetrics.disable();
+    }
+
+    @Test
+    void shouldRecordEvaluationsPerMatcherDescription() {
+        //given
+        InMemoryMatcherMetrics metrics = MatcherMetrics.recordInMemory();
+        given(ts.findNumberOfShipsInRangeByCriteria(argLambda(c -> c != null && c.getMinimumRange() > 1000, "range > 1000")))
+                .willReturn(4);
+        metrics.reset();    //skip evaluation with null done by Mockito on stubbing
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2));
+        //then
+        assertThat(metrics.statistics()).hasSize(1);
+        MatcherStatistics statistics = metrics.statistics().get(0);
+        assertThat(statistics.description()).isEqualTo("range > 1000");
+        assertThat(statistics.evaluationCount()).isEqualTo(2);
+        assertThat(statistics.failureCount()).isEqualTo(1);
+        assertThat(statistics.totalNanos()).isGreaterThanOrEqualTo(statistics.maxNanos()).isPositive();
+        assertThat(metrics.report()).contains("range > 1000");
+    }
+
+    @Test
+    void shouldRecordFailedAssertionsWithLambdaClassAsDescription() {
+        //given
+        InMemoryMatcherMetrics metrics = MatcherMetrics.recordInMemory();
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //when
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(
+                assertArg(c -> assertThat(c.getMinimumRange()).isLessThan(1000)))).isInstanceOf(AssertionError.class);
+        //then
+        MatcherStatistics statistics = metrics.statistics().get(0);
+        assertThat(statistics.description()).startsWith("assertArg(" + MatcherMetricsTest.class.getName());
+        assertThat(statistics.failureCount()).isEqualTo(statistics.evaluationCount()).isPositive();
+    }
+
+    @Test
+    void shouldRecordEvaluationsOfPrimitiveMatchers() {
+        //given
+        InMemoryMatcherMetrics metrics = MatcherMetrics.recordInMemory();
+        ts.fireTorpedo(2);
+        //when
+        verify(ts).fireTorpedo(intArgLambda(i -> i == 2));
+        //then
+        assertThat(metrics.statistics()).hasSize(1);
+        assertThat(metrics.statistics().get(0).description()).startsWith("intArgLambda(" + MatcherMetricsTest.class.getName());
+    }
+
+    @Test
+    void shouldRecordAssertionsOfAllInvocations() {
+        //given
+        InMemoryMatcherMetrics metrics = MatcherMetrics.recordInMemory();
+        ts.fireTorpedo(1);
+        ts.fireTorpedo(2);
+        //when
+        assertAllArgs(ts, t -> t.fireTorpedo(assertArg(i -> assertThat(i).isPositive())));
+        //then
+        assertThat(metrics.statistics()).hasSize(1);
+        assertThat(metrics.statistics().get(0).evaluationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotifyCustomListener() {
+        //given
+        List<String> evaluatedMatchers = new ArrayList<>();
+        MatcherMetrics.setListener((description, durationNanos, matched) -> evaluatedMatchers.add(description + ":" + matched));
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //when
+        verify(ts).findNumberOfShipsInRangeByCriteria(argLambda(c -> c.getMinimumRange() > 1000, "range > 1000"));
+        //then
+        assertThat(evaluatedMatchers).isNotEmpty().containsOnly("range > 1000:true");
+    }
+
+    @Test
+    void shouldNotNotifyListenerWhenDisabled() {
+        //given
+        List<String> evaluatedMatchers = new ArrayList<>();
+        MatcherMetrics.setListener((description, durationNanos, matched) -> evaluatedMatchers.add(description));
+        MatcherMetrics.disable();
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //when
+        verify(ts).findNumberOfShipsInRangeByCriteria(argLambda(c -> c.getMinimumRange() > 1000));
+        //then
+        assertThat(evaluatedMatchers).isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoizingPredicateTest {
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    private final MemoizingPredicate<ShipSearchCriteria> predicate = MemoizingPredicate.memoize(c -> {
+        evaluations.incrementAndGet();
+        return c == null || c.getMinimumRange() > 1000;
+    });
+
+    @Test
+    void shouldEvaluateLambdaOnlyOnceForGivenArgument() {
+        //given
+        ShipSearchCriteria criteria = new ShipSearchCriteria(1500, 2);
+        //expect
+        assertThat(predicate.test(criteria)).isTrue();
+        assertThat(predicate.test(criteria)).isTrue();
+        assertThat(predicate.test(criteria)).isTrue();
+        //and
+        assertThat(evaluations).hasValue(1);
+        assertThat(predicate.statistics().hitCount()).isEqualTo(2);
+        assertThat(predicate.statistics().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCacheResultsPerArgumentIdentity() {
+        //given
+        ShipSearchCriteria criteria = new ShipSearchCriteria(500, 2);
+        ShipSearchCriteria sameRangeCriteria = new ShipSearchCriteria(500, 2);
+        //expect
+        assertThat(predicate.test(criteria)).isFalse();
+        assertThat(predicate.test(sameRangeCriteria)).isFalse();
+        assertThat(predicate.test(criteria)).isFalse();
+        //and
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheResultForNull() {
+        //expect
+        assertThat(predicate.test(null)).isTrue();
+        assertThat(predicate.test(null)).isTrue();
+        //and
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void shouldNotPreventArgumentFromBeingGarbageCollected() throws InterruptedException {
+        //given
+        ShipSearchCriteria criteria = new ShipSearchCriteria(1500, 2);
+        predicate.test(criteria);
+        WeakReference<ShipSearchCriteria> criteriaReference = new WeakReference<>(criteria);
+        //when
+        //noinspection UnusedAssignment
+        criteria = null;
+        for (int i = 0; i < 50 && criteriaReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        //then
+        assertThat(criteriaReference.get()).isNull();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.base.MockitoException;
+
+import java.util.concurrent.CompletableFuture;
+
+import static info.solidsoft.mockito.java8.MockPool.pooledMock;
+import static info.solidsoft.mockito.java8.MockPool.releasePooledMocks;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mockingDetails;
+
+class MockPoolTest {
+
+    @AfterEach
+    void releaseMocks() {
+        releasePooledMocks();
+    }
+
+    @Test
+    void shouldReuseReleasedMock() {
+        //given
+        TacticalStation ts = pooledMock(TacticalStation.class);
+        releasePooledMocks();
+        //expect
+        assertThat(pooledMock(TacticalStation.class)).isSameAs(ts);
+    }
+
+    @Test
+    void shouldNotLeaseTheSameMockTwiceBeforeRelease() {
+        //given
+        TacticalStation ts = pooledMock(TacticalStation.class);
+        //expect
+        assertThat(pooledMock(TacticalStation.class)).isNotSameAs(ts);
+        assertThat(MockPool.numberOfLeasedMocks()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldResetReleasedMock() {
+        //given
+        TacticalStation ts = pooledMock(TacticalStation.class);
+        given(ts.getNumberOfTubes()).willReturn(4);
+        ts.fireTorpedo(2);
+        //when
+        releasePooledMocks();
+        //then
+        TacticalStation reusedTs = pooledMock(TacticalStation.class);
+        assertThat(reusedTs.getNumberOfTubes()).isZero();
+        assertThat(mockingDetails(reusedTs).getInvocations()).hasSize(1);  //only getNumberOfTubes() above
+        assertThat(MockPool.numberOfLeasedMocks()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailWhenTooManyMocksAreLeasedWithoutRelease() {
+        //given
+        for (int i = 0; i < MockPool.MAX_LEASED_MOCKS; i++) {
+            pooledMock(TacticalStation.class);
+        }
+        //expect
+        assertThatThrownBy(() -> pooledMock(TacticalStation.class))
+                .isInstanceOf(MockitoException.class)
+                .hasMessageContaining("releasePooledMocks()");
+        assertThat(MockPool.numberOfLeasedMocks()).isEqualTo(MockPool.MAX_LEASED_MOCKS);
+    }
+
+    @Test
+    void shouldNotShareMocksBetweenThreads() throws Exception {
+        //given
+        TacticalStation ts = pooledMock(TacticalStation.class);
+        releasePooledMocks();
+        //when
+        TacticalStation tsFromOtherThread = CompletableFuture.supplyAsync(() -> pooledMock(TacticalStation.class)).get();
+        //then
+        assertThat(tsFromOtherThread).isNotSameAs(ts);
+    }
+}
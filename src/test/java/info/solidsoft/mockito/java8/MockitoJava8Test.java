@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MockitoJava8Test {
+
+    @Test
+    void shouldWarmUpOnlyOnce() throws Exception {
+        //when
+        CompletableFuture<Void> warmUp = MockitoJava8.warmUp();
+        //then
+        assertThat(MockitoJava8.warmUp()).isSameAs(warmUp);
+        //and
+        warmUp.get(30, TimeUnit.SECONDS);
+        assertThat(warmUp).isCompleted();
+    }
+}
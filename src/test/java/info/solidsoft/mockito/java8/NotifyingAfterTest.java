@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.verification.NeverWantedButInvoked;
+import org.mockito.exceptions.verification.TooManyActualInvocations;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.NotifyingAfter.notifyingAfter;
+import static info.solidsoft.mockito.java8.NotifyingTimeout.withInvocationNotifications;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class NotifyingAfterTest {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldVerifyAfterWholePeriod() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class, withInvocationNotifications());
+        executor.schedule(() -> ts.fireTorpedo(2), 10, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> ts.fireTorpedo(2), 20, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        //when
+        verify(ts, notifyingAfter(100).times(2)).fireTorpedo(2);
+        //then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    void shouldFailWhenInvokedTooManyTimesDuringPeriod() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class, withInvocationNotifications());
+        executor.schedule(() -> ts.fireTorpedo(2), 10, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> ts.fireTorpedo(2), 20, TimeUnit.MILLISECONDS);
+        //expect
+        assertThatThrownBy(() -> verify(ts, notifyingAfter(100).times(1)).fireTorpedo(2))
+                .isInstanceOf(TooManyActualInvocations.class);
+    }
+
+    @Test
+    void shouldFailAsSoonAsUnwantedInvocationArrives() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class, withInvocationNotifications());
+        executor.schedule(() -> ts.fireTorpedo(2), 20, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        //expect
+        assertThatThrownBy(() -> verify(ts, notifyingAfter(5000).never()).fireTorpedo(2))
+                .isInstanceOf(NeverWantedButInvoked.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+    }
+
+    @Test
+    void shouldAllowAtMostGivenNumberOfInvocations() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class, withInvocationNotifications());
+        executor.schedule(() -> ts.fireTorpedo(2), 10, TimeUnit.MILLISECONDS);
+        //expect
+        verify(ts, notifyingAfter(50).atMost(1)).fireTorpedo(2);
+    }
+}
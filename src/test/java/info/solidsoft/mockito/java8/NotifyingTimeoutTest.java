@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.verification.TooLittleActualInvocations;
+import org.mockito.exceptions.verification.WantedButNotInvoked;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.NotifyingTimeout.notifyingTimeout;
+import static info.solidsoft.mockito.java8.NotifyingTimeout.withInvocationNotifications;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class NotifyingTimeoutTest {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnAsSoonAsMockIsInvoked() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class, withInvocationNotifications());
+        executor.schedule(() -> ts.fireTorpedo(2), 50, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        //when
+        verify(ts, notifyingTimeout(5000)).fireTorpedo(2);
+        //then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+    }
+
+    @Test
+    void shouldWaitForWantedNumberOfInvocations() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class, withInvocationNotifications());
+        executor.schedule(() -> ts.fireTorpedo(1), 10, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> ts.fireTorpedo(2), 20, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> ts.fireTorpedo(2), 30, TimeUnit.MILLISECONDS);
+        //expect
+        verify(ts, notifyingTimeout(5000).times(2)).fireTorpedo(2);
+    }
+
+    @Test
+    void shouldFailWhenMockIsNotInvokedWithinTimeout() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class, withInvocationNotifications());
+        executor.schedule(ts::getNumberOfTubes, 10, TimeUnit.MILLISECONDS);
+        //expect
+        assertThatThrownBy(() -> verify(ts, notifyingTimeout(100)).fireTorpedo(2))
+                .isInstanceOf(WantedButNotInvoked.class);
+    }
+
+    @Test
+    void shouldReportLastFailureAfterTimeout() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class, withInvocationNotifications());
+        ts.fireTorpedo(2);
+        //expect
+        assertThatThrownBy(() -> verify(ts, notifyingTimeout(50).atLeast(2)).fireTorpedo(2))
+                .isInstanceOf(TooLittleActualInvocations.class);
+    }
+
+    @Test
+    void shouldPollMockCreatedWithoutNotifications() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class);
+        executor.schedule(() -> ts.fireTorpedo(2), 20, TimeUnit.MILLISECONDS);
+        //expect
+        verify(ts, notifyingTimeout(5000)).fireTorpedo(2);
+    }
+}
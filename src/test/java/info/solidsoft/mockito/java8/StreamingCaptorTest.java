@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import info.solidsoft.mockito.java8.domain.TopedoType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static info.solidsoft.mockito.java8.StreamingCaptor.captureStream;
+import static info.solidsoft.mockito.java8.domain.TopedoType.PHOTON;
+import static info.solidsoft.mockito.java8.domain.TopedoType.PLASMA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingCaptorTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    @Test
+    void shouldStreamArgumentsOfAllInvocationsOfMethod() {
+        //given
+        IntStream.range(0, 1000).forEach(ts::fireTorpedo);
+        ts.getTubeStatus(5);
+        //when
+        long numberOfEvenTubes = StreamingCaptor.<TacticalStation, Integer>captureStream(ts, t -> t.fireTorpedo(anyInt()))
+                .filter(tubeNumber -> tubeNumber % 2 == 0)
+                .count();
+        //then
+        assertThat(numberOfEvenTubes).isEqualTo(500);
+    }
+
+    @Test
+    void shouldStreamOnlyInvocationsSelectedByMatchers() {
+        //given
+        ts.fireTorpedo(1);
+        ts.fireTorpedo(5);
+        ts.fireTorpedo(7);
+        //expect
+        assertThat(captureStream(ts, t -> t.fireTorpedo(intThat(i -> i > 3))).collect(Collectors.toList()))
+                .containsExactly(5, 7);
+    }
+
+    @Test
+    void shouldStreamArgumentAtGivenIndex() {
+        //given
+        ts.reloadTubeWithGivenTorpedoType(1, PLASMA);
+        ts.reloadTubeWithGivenTorpedoType(2, PHOTON);
+        ts.reloadTubeWithGivenTorpedoType(2, PLASMA);
+        //expect
+        assertThat(StreamingCaptor.<TacticalStation, TopedoType>captureStream(ts, 1, t -> t.reloadTubeWithGivenTorpedoType(eq(2), any()))
+                .collect(Collectors.toList()))
+                .containsExactly(PHOTON, PLASMA);
+    }
+
+    @Test
+    void shouldReturnEmptyStreamIfMethodWasNotInvoked() {
+        //expect
+        assertThat(captureStream(ts, t -> t.findNumberOfShipsInRangeByCriteria(any()))).isEmpty();
+    }
+
+    @Test
+    void shouldMarkStreamedInvocationsAsVerified() {
+        //given
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 4));
+        //when
+        long numberOfInvocations = captureStream(ts, t -> t.findNumberOfShipsInRangeByCriteria(any())).count();
+        //then
+        assertThat(numberOfInvocations).isEqualTo(1);
+        verifyNoMoreInteractions(ts);
+    }
+}
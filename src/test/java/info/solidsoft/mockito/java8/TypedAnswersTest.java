@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import info.solidsoft.mockito.java8.domain.TopedoType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static info.solidsoft.mockito.java8.TypedAnswers.answer1;
+import static info.solidsoft.mockito.java8.TypedAnswers.answer3;
+import static info.solidsoft.mockito.java8.TypedAnswers.answerVoid1;
+import static info.solidsoft.mockito.java8.TypedAnswers.answerVoid2;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class TypedAnswersTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    @Test
+    void shouldAnswerWithTypedArgument() {
+        //given
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).will(answer1((ShipSearchCriteria c) -> c.getMinimumRange() > 1000 ? 4 : 0));
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2))).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2))).isEqualTo(0);
+    }
+
+    @Test
+    void shouldAnswerWithThreeTypedArguments() {
+        //given
+        given(ts.smellyFindNumberOfShipsInRangeByCriteria(anyInt(), anyString(), anyInt()))
+                .will(answer3((Integer range, String name, Integer phasers) -> range / 1000 + name.length() + phasers));
+        //expect
+        assertThat(ts.smellyFindNumberOfShipsInRangeByCriteria(2000, "Borg", 3)).isEqualTo(9);
+    }
+
+    @Test
+    void shouldAnswerVoidMethodWithTypedArguments() {
+        //given
+        Map<Integer, TopedoType> loadedTubes = new HashMap<>();
+        willAnswer(answerVoid2((Integer tube, TopedoType type) -> loadedTubes.put(tube, type)))
+                .given(ts).reloadTubeWithGivenTorpedoType(anyInt(), any());
+        //when
+        ts.reloadTubeWithGivenTorpedoType(2, TopedoType.PLASMA);
+        //then
+        assertThat(loadedTubes).containsEntry(2, TopedoType.PLASMA);
+    }
+
+    @Test
+    void shouldAnswerVoidMethodWithPrimitiveArgument() {
+        //given
+        StringBuilder firedTubes = new StringBuilder();
+        willAnswer(answerVoid1((Integer tube) -> firedTubes.append(tube))).given(ts).fireTorpedo(anyInt());
+        //when
+        ts.fireTorpedo(1);
+        ts.fireTorpedo(3);
+        //then
+        assertThat(firedTubes.toString()).isEqualTo("13");
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static info.solidsoft.mockito.java8.NotifyingTimeout.notifyingTimeout;
+import static info.solidsoft.mockito.java8.NotifyingTimeout.withInvocationNotifications;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Executed with the virtualThreadsTest Gradle task on a JDK 21+ (virtual threads are called with reflection as the project targets
+ * Java 8). Carrier thread pinning is detected with -Djdk.tracePinnedThreads=short (a JDK 21-23 diagnostic option printing to
+ * System.out) - the test fails without it, as it would pass trivially. Skipped on JVMs without virtual threads unless required by
+ * the task.
+ */
+class VirtualThreadsTest {
+
+    static final String REQUIRED_PROPERTY = "mockito-java8.requireVirtualThreads";
+    private static final String TRACE_PINNED_THREADS_PROPERTY = "jdk.tracePinnedThreads";
+
+    private static final int NUMBER_OF_SHARED_MOCKS = 20;
+    private static final int VERIFICATIONS_PER_MOCK = 50;
+
+    @Test
+    void shouldVerifySharedMocksFromThousandsOfVirtualThreadsWithoutPinningCarrierThreads() throws Exception {
+        //given
+        Method startVirtualThread = findStartVirtualThreadMethod();
+        if (Boolean.getBoolean(REQUIRED_PROPERTY)) {
+            assertThat(startVirtualThread).as("Virtual threads are not available in this JVM - JDK 21+ is required").isNotNull();
+        }
+        assumeTrue(startVirtualThread != null, "Virtual threads are not available in this JVM");
+        assertThat(System.getProperty(TRACE_PINNED_THREADS_PROPERTY))
+                .as("Pinning is not traced - run with -D" + TRACE_PINNED_THREADS_PROPERTY + "=short").isEqualTo("short");
+        List<TacticalStation> sharedMocks = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SHARED_MOCKS; i++) {
+            sharedMocks.add(mock(TacticalStation.class, withInvocationNotifications()));
+        }
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream pinnedThreadTraces = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(pinnedThreadTraces, true));
+        try {
+            //when
+            for (TacticalStation ts : sharedMocks) {
+                for (int tube = 0; tube < VERIFICATIONS_PER_MOCK; tube++) {
+                    int tubeNumber = tube;
+                    threads.add(start(startVirtualThread, () -> verify(ts, notifyingTimeout(30_000)).fireTorpedo(tubeNumber), failures));
+                    threads.add(start(startVirtualThread, () -> ts.fireTorpedo(tubeNumber), failures));
+                }
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } finally {
+            System.setOut(originalOut);
+        }
+        //then
+        assertThat(failures).isEmpty();
+        assertThat(pinnedThreadTraces.toString()).doesNotContain("<== monitors");
+    }
+
+    private static Thread start(Method startVirtualThread, Runnable task, Queue<Throwable> failures) throws Exception {
+        Runnable failureRecordingTask = () -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+        };
+        return (Thread) startVirtualThread.invoke(null, failureRecordingTask);
+    }
+
+    private static Method findStartVirtualThreadMethod() {
+        try {
+            return Thread.class.getMethod("startVirtualThread", Runnable.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PatternCacheTest {
+
+    @Test
+    void shouldReuseCompiledPattern() {
+        //given
+        PatternCache patternCache = new PatternCache(2);
+        //when
+        Pattern pattern = patternCache.compile("Enterprise.*");
+        //then
+        assertThat(patternCache.compile("Enterprise.*")).isSameAs(pattern);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPattern() {
+        //given
+        PatternCache patternCache = new PatternCache(2);
+        Pattern first = patternCache.compile("first");
+        patternCache.compile("second");
+        patternCache.compile("first");
+        //when
+        Pattern third = patternCache.compile("third");
+        //then
+        assertThat(patternCache.size()).isEqualTo(2);
+        assertThat(patternCache.compile("first")).isSameAs(first);
+        assertThat(patternCache.compile("third")).isSameAs(third);
+    }
+}
@@ -5,11 +5,15 @@
  */
 package info.solidsoft.mockito.java8.api;
 
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
 import info.solidsoft.mockito.java8.domain.TacticalStation;
+import info.solidsoft.mockito.java8.domain.TopedoType;
 import org.junit.jupiter.api.Test;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,4 +53,61 @@ class WithBDDMockitoTest implements WithBDDMockito {
         assertThatThrownBy(() -> writerMock.write("should throw IOException"))
                 .isInstanceOf(IOException.class);
     }
+
+    @Test
+    void shouldAllowToStubAsyncMethodsWithoutStaticImports() {
+        //given
+        TacticalStation tsMock = mock(TacticalStation.class);
+        willComplete(2).given(tsMock).scanForEnemyShipsAsync(1000);
+        willCompleteAfter(Duration.ofMillis(20), 5).given(tsMock).scanForEnemyShipsAsync(5000);
+        willFail(new IllegalStateException("Sensors offline")).given(tsMock).scanForEnemyShipsAsync(9000);
+        //when
+        CompletableFuture<Integer> nearShips = tsMock.scanForEnemyShipsAsync(1000);
+        CompletableFuture<Integer> farShips = tsMock.scanForEnemyShipsAsync(5000);
+        CompletableFuture<Integer> veryFarShips = tsMock.scanForEnemyShipsAsync(9000);
+        //then
+        assertThat(nearShips).isCompletedWithValue(2);
+        assertThat(farShips.join()).isEqualTo(5);
+        assertThat(veryFarShips).hasFailedWithThrowableThat().hasMessage("Sensors offline");
+    }
+
+    @Test
+    void shouldVerifyAsyncInteractionWithoutStaticImports() {
+        //given
+        TacticalStation tsMock = mock(TacticalStation.class);
+        //when
+        CompletableFuture<Void> verification = verifyEventually(tsMock, times(2), Duration.ofSeconds(5), ts -> ts.fireTorpedo(anyInt()));
+        CompletableFuture.runAsync(() -> {
+            tsMock.fireTorpedo(1);
+            tsMock.fireTorpedo(2);
+        });
+        //then
+        verification.join();
+    }
+
+    @Test
+    void shouldAllowToAnswerWithTypedArgumentsWithoutStaticImports() {
+        //given
+        TacticalStation tsMock = mock(TacticalStation.class);
+        given(tsMock.describe(any())).will(answer1(Object::toString));
+        //when
+        String description = tsMock.describe(TopedoType.PLASMA);
+        //then
+        assertThat(description).isEqualTo("PLASMA");
+    }
+
+    @Test
+    void shouldAllowToStubWithManyLambdasWithoutStaticImports() {
+        //given
+        TacticalStation tsMock = mock(TacticalStation.class);
+        given(tsMock.findNumberOfShipsInRangeByCriteria(any())).willAnswer(this.<ShipSearchCriteria>answerByPredicates()
+                .whenMatching(c -> c.getMinimumRange() < 1000, 2)
+                .whenMatching(c -> c.getMinimumRange() >= 1000, 5)
+                .disjoint()
+                .build());
+        //when
+        int numberOfShips = tsMock.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //then
+        assertThat(numberOfShips).isEqualTo(5);
+    }
 }
@@ -8,6 +8,8 @@ package info.solidsoft.mockito.java8.api;
 import info.solidsoft.mockito.java8.domain.TacticalStation;
 import org.junit.jupiter.api.Test;
 
+import java.util.regex.Pattern;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class WithMockitoTest implements WithMockito {
@@ -34,4 +36,44 @@ class WithMockitoTest implements WithMockito {
         //assert
         assertThat(numberOfTubes).isEqualTo(3);
     }
+
+    @Test
+    void shouldAllowToReusePooledMockWithoutStaticImports() {
+        //arrange
+        TacticalStation tsMock = pooledMock(TacticalStation.class);
+        when(tsMock.getNumberOfTubes()).thenReturn(3);
+        releasePooledMocks();
+        //act
+        TacticalStation reusedTsMock = pooledMock(TacticalStation.class);
+        //assert
+        assertThat(reusedTsMock).isSameAs(tsMock);
+        assertThat(reusedTsMock.getNumberOfTubes()).isZero();
+        releasePooledMocks();
+    }
+
+    @Test
+    void shouldAllowToStubWithPrecompiledAndCachedRegexMatchers() {
+        //arrange
+        TacticalStation tsMock = mock(TacticalStation.class);
+        when(tsMock.describe(matches(Pattern.compile("Enterprise.*")))).thenReturn("starship");
+        when(tsMock.describe(matches("Voyager.*"))).thenReturn("probe");
+        //act
+        String enterprise = tsMock.describe("Enterprise-D");
+        String voyager = tsMock.describe("Voyager 1");
+        //assert
+        assertThat(enterprise).isEqualTo("starship");
+        assertThat(voyager).isEqualTo("probe");
+    }
+
+    @Test
+    void shouldAllowToVerifyWithNotifyingTimeoutWithoutStaticImports() throws Exception {
+        //arrange
+        TacticalStation tsMock = mock(TacticalStation.class, withInvocationNotifications());
+        //act
+        Thread thread = new Thread(() -> tsMock.fireTorpedo(2));
+        thread.start();
+        //assert
+        verify(tsMock, notifyingTimeout(5000)).fireTorpedo(2);
+        thread.join();
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2018 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8.api;
+
+import info.solidsoft.mockito.java8.ThreadMockRegistry;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.misusing.UnfinishedStubbingException;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WithParallelMockitoTest implements WithBDDMockito, WithParallelMockito {
+
+    @AfterEach
+    void cleanUpMocks() {
+        validateAndResetThreadMocks();
+    }
+
+    @Test
+    void shouldRegisterMocksAndSpiesInCurrentThread() {
+        //given
+        TacticalStation tsMock = mock(TacticalStation.class);
+        TacticalStation tsSpy = spy(TacticalStation.class);
+        //expect
+        assertThat(ThreadMockRegistry.registeredMocks()).containsExactly(tsMock, tsSpy);
+    }
+
+    @Test
+    void shouldResetRegisteredMocks() {
+        //given
+        TacticalStation tsMock = mock(TacticalStation.class);
+        given(tsMock.getNumberOfTubes()).willReturn(4);
+        //when
+        validateAndResetThreadMocks();
+        //then
+        assertThat(tsMock.getNumberOfTubes()).isZero();
+        assertThat(ThreadMockRegistry.registeredMocks()).isEmpty();
+    }
+
+    @Test
+    void shouldNotKeepMocksNoLongerUsedByTest() throws InterruptedException {
+        //given
+        WeakReference<TacticalStation> unusedMock = new WeakReference<>(mock(TacticalStation.class));
+        //when
+        for (int i = 0; i < 100 && unusedMock.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        //then
+        assertThat(unusedMock.get()).isNull();
+        assertThat(ThreadMockRegistry.registeredMocks()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepMocksFromOtherThreadsSeparately() throws Exception {
+        //given
+        TacticalStation tsMock = mock(TacticalStation.class);
+        //when
+        List<Object> otherThreadMocks = CompletableFuture.supplyAsync(() -> {
+            mock(TacticalStation.class);
+            List<Object> mocks = ThreadMockRegistry.registeredMocks();
+            validateAndResetThreadMocks();
+            return mocks;
+        }).get();
+        //then
+        assertThat(otherThreadMocks).hasSize(1).doesNotContain(tsMock);
+        assertThat(ThreadMockRegistry.registeredMocks()).containsExactly(tsMock);
+    }
+
+    @Test
+    void shouldReportMisuseInThreadWhereItHappenedAndStillResetMocks() throws Exception {
+        //given
+        CompletableFuture<TacticalStation> misusedMock = CompletableFuture.supplyAsync(() -> {
+            TacticalStation tsMock = mock(TacticalStation.class);
+            given(tsMock.getNumberOfTubes()).willReturn(4);
+            //noinspection ResultOfMethodCallIgnored
+            when(tsMock.getNumberOfEnemyShipsInRange());  //unfinished stubbing
+            assertThatThrownBy(this::validateAndResetThreadMocks).isInstanceOf(UnfinishedStubbingException.class);
+            return tsMock;
+        });
+        //expect
+        assertThat(misusedMock.get().getNumberOfTubes()).isZero();
+        validateMockitoUsage(); //nothing leaked into this thread
+    }
+}
@@ -5,6 +5,8 @@
  */
 package info.solidsoft.mockito.java8.domain;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Test domain classes.
  */
@@ -25,6 +27,9 @@ public class TacticalStation {
     public void fireTorpedo(int tubeNumber) {
     }
 
+    public void reportDamage(int deckNumber, String... systems) {
+    }
+
     private int getNumberOfFirstLoadedTube() {
         return 0;
     }
@@ -52,9 +57,23 @@ public class TacticalStation {
         return 0;
     }
 
+    public String describe(Object object) {
+        return null;
+    }
+
     public void firePhaser() {
     }
 
+    public void chargePhasers(long energy) {
+    }
+
+    public void setShieldStrength(double percent) {
+    }
+
     public void doSelfCheck() {
     }
+
+    public CompletableFuture<Integer> scanForEnemyShipsAsync(int range) {
+        return null;
+    }
 }